@@ -0,0 +1,97 @@
+package io.vertx.ext.unit.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.collect.impl.EventBusCollectorImpl;
+import io.vertx.ext.unit.impl.TestCompletionImpl;
+import io.vertx.ext.unit.report.Reporter;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.ext.unit.report.impl.EventBusReporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput in events per second of the {@link EventBusReporter} to {@link EventBusCollectorImpl}
+ * to {@link TestCompletionImpl} pipeline, each invocation reports a suite of {@link #TEST_CASES} test cases,
+ * i.e {@code 2 * TEST_CASES + 2} events.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBusReportingBenchmark {
+
+  static final int TEST_CASES = 1000;
+  static final int EVENTS = 2 * TEST_CASES + 2;
+  static final String ADDRESS = "the_address";
+
+  private Vertx vertx;
+  private MessageConsumer<JsonObject> consumer;
+  private EventBusReporter reporter;
+  private TestResult[] results;
+  private volatile CompletableFuture<Void> done;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    results = TestResults.create(TEST_CASES);
+    Reporter<Void> completion = new Reporter<Void>() {
+      @Override
+      public Void reportBeginTestSuite(String name) {
+        return null;
+      }
+      @Override
+      public void reportBeginTestCase(Void report, String name) {
+      }
+      @Override
+      public void reportEndTestCase(Void report, String name, TestResult result) {
+      }
+      @Override
+      public void reportError(Void report, Throwable err) {
+      }
+      @Override
+      public void reportEndTestSuite(Void report) {
+        done.complete(null);
+      }
+    };
+    EventBusCollectorImpl collector = new EventBusCollectorImpl(vertx, report -> new TestCompletionImpl(completion).handle(report));
+    consumer = collector.register(ADDRESS);
+    consumer.completion().await(10, TimeUnit.SECONDS);
+    reporter = new EventBusReporter(vertx, ADDRESS);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().await(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void testSuite() {
+    CompletableFuture<Void> fut = new CompletableFuture<>();
+    done = fut;
+    EventBusReporter.EventBusReport report = reporter.reportBeginTestSuite("the_suite");
+    for (TestResult result : results) {
+      reporter.reportBeginTestCase(report, result.name());
+      reporter.reportEndTestCase(report, result.name(), result);
+    }
+    reporter.reportEndTestSuite(report);
+    fut.join();
+  }
+}
@@ -0,0 +1,77 @@
+package io.vertx.ext.unit.benchmarks;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.impl.ExecutionContext;
+import io.vertx.ext.unit.impl.Result;
+import io.vertx.ext.unit.impl.Task;
+import io.vertx.ext.unit.impl.TestContextImpl;
+import io.vertx.ext.unit.impl.TestContextTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link Task} chain of a test case, i.e the <i>beforeEach</i>, <i>test</i> and <i>afterEach</i>
+ * {@link TestContextTask} executed by an {@link ExecutionContext} with or without an event loop.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutionEngineBenchmark {
+
+  private static final Handler<TestContext> NOOP = context -> {};
+
+  @Param({"false", "true"})
+  public boolean eventLoop;
+
+  private Vertx vertx;
+  private ExecutionContext executionContext;
+
+  @Setup
+  public void setup() {
+    Context context = null;
+    if (eventLoop) {
+      vertx = Vertx.vertx();
+      context = vertx.getOrCreateContext();
+    }
+    executionContext = new ExecutionContext(context);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    if (vertx != null) {
+      vertx.close().await(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Benchmark
+  public Result testCase() {
+    CompletableFuture<Result> fut = new CompletableFuture<>();
+    TestContextImpl testContext = new TestContextImpl(new HashMap<>(), null);
+    Task<Result> end = (result, context) -> fut.complete(result);
+    Task<Result> afterEach = new TestContextTask("my_test", "afterEach", testContext, NOOP, end, 0);
+    Task<Result> test = new TestContextTask("my_test", "test", testContext, NOOP, afterEach, 0);
+    Task<Result> beforeEach = new TestContextTask("my_test", "beforeEach", testContext, NOOP, test, 0);
+    executionContext.run(beforeEach);
+    return fut.join();
+  }
+}
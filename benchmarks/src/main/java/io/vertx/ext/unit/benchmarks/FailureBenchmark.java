@@ -0,0 +1,62 @@
+package io.vertx.ext.unit.benchmarks;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.impl.FailureImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the json marshalling of a {@link FailureImpl}, the cause is marshalled with Java serialization.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailureBenchmark {
+
+  private FailureImpl failure;
+  private JsonObject json;
+  private String encoded;
+
+  @Setup
+  public void setup() {
+    failure = new FailureImpl(new AssertionError("Expected 1 instead of 2", new IllegalStateException("the cause")));
+    json = failure.toJson();
+    encoded = json.encode();
+  }
+
+  @Benchmark
+  public JsonObject toJson() {
+    return failure.toJson();
+  }
+
+  @Benchmark
+  public FailureImpl fromJson() {
+    return new FailureImpl(json);
+  }
+
+  /**
+   * The round trip of a failure sent by the event bus reporter to a remote collector.
+   */
+  @Benchmark
+  public FailureImpl encodedRoundTrip() {
+    return new FailureImpl(new JsonObject(failure.toJson().encode()));
+  }
+
+  @Benchmark
+  public FailureImpl decode() {
+    return new FailureImpl(new JsonObject(encoded));
+  }
+}
@@ -0,0 +1,135 @@
+package io.vertx.ext.unit.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.unit.report.ReportOptions;
+import io.vertx.ext.unit.report.Reporter;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.ext.unit.report.impl.DefaultReporterFactory;
+import io.vertx.ext.unit.report.impl.JunitXmlFormatter;
+import io.vertx.ext.unit.report.impl.ReportStream;
+import io.vertx.ext.unit.report.impl.SimpleFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the report of a test suite of {@code results} test cases by the {@link JunitXmlFormatter} and the
+ * {@link SimpleFormatter}, either in memory or to the {@code file:} sink.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReporterBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int results;
+
+  @Param({"memory", "file"})
+  public String sink;
+
+  private TestResult[] testResults;
+  private Vertx vertx;
+  private File dir;
+  private Reporter<Object> junit;
+  private Reporter<Object> simple;
+  private Object junitReport;
+  private long bytes;
+
+  @SuppressWarnings("unchecked")
+  @Setup
+  public void setup() throws Exception {
+    testResults = TestResults.create(results);
+    switch (sink) {
+      case "memory":
+        ReportStream stream = new ReportStream() {
+          @Override
+          public void info(Buffer msg) {
+            bytes += msg.length();
+          }
+          @Override
+          public void error(Buffer msg, Throwable cause) {
+            bytes += msg.length();
+          }
+        };
+        junit = (Reporter) new JunitXmlFormatter(name -> stream);
+        simple = (Reporter) new SimpleFormatter(name -> stream);
+        break;
+      case "file":
+        vertx = Vertx.vertx();
+        dir = Files.createTempDirectory("vertx-unit-benchmark").toFile();
+        DefaultReporterFactory factory = new DefaultReporterFactory();
+        junit = factory.reporter(vertx, new ReportOptions().setTo("file:" + dir.getAbsolutePath()).setFormat("junit"));
+        simple = factory.reporter(vertx, new ReportOptions().setTo("file:" + dir.getAbsolutePath()).setFormat("simple"));
+        break;
+      default:
+        throw new IllegalArgumentException("Invalid sink " + sink);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    if (vertx != null) {
+      vertx.close().await(10, TimeUnit.SECONDS);
+      vertx = null;
+    }
+    if (dir != null) {
+      File[] files = dir.listFiles();
+      if (files != null) {
+        for (File file : files) {
+          file.delete();
+        }
+      }
+      dir.delete();
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void junitReport() {
+    junitReport = junit.reportBeginTestSuite("the_suite");
+    for (TestResult result : testResults) {
+      junit.reportBeginTestCase(junitReport, result.name());
+      junit.reportEndTestCase(junitReport, result.name(), result);
+    }
+  }
+
+  /**
+   * The junit report is generated when the test suite ends.
+   */
+  @Benchmark
+  public long junitEndTestSuite() {
+    junit.reportEndTestSuite(junitReport);
+    return bytes;
+  }
+
+  /**
+   * The simple report is written as the test cases end.
+   */
+  @Benchmark
+  public long simpleTestSuite() {
+    Object report = simple.reportBeginTestSuite("the_suite");
+    for (TestResult result : testResults) {
+      simple.reportBeginTestCase(report, result.name());
+      simple.reportEndTestCase(report, result.name(), result);
+    }
+    simple.reportEndTestSuite(report);
+    return bytes;
+  }
+}
@@ -0,0 +1,72 @@
+package io.vertx.ext.unit.benchmarks;
+
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.Test;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.BlockJUnit4ClassRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per test method overhead of the {@link VertxUnitRunner} with the plain JUnit
+ * {@link BlockJUnit4ClassRunner}, each invocation runs a class of {@link #METHODS} empty test methods.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RunnerBenchmark {
+
+  static final int METHODS = 10;
+
+  public static class VertxUnitTests {
+    @Test public void test0(TestContext context) { }
+    @Test public void test1(TestContext context) { }
+    @Test public void test2(TestContext context) { }
+    @Test public void test3(TestContext context) { }
+    @Test public void test4(TestContext context) { }
+    @Test public void test5(TestContext context) { }
+    @Test public void test6(TestContext context) { }
+    @Test public void test7(TestContext context) { }
+    @Test public void test8(TestContext context) { }
+    @Test public void test9(TestContext context) { }
+  }
+
+  public static class JUnitTests {
+    @Test public void test0() { }
+    @Test public void test1() { }
+    @Test public void test2() { }
+    @Test public void test3() { }
+    @Test public void test4() { }
+    @Test public void test5() { }
+    @Test public void test6() { }
+    @Test public void test7() { }
+    @Test public void test8() { }
+    @Test public void test9() { }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(METHODS)
+  public void vertxUnitRunner() throws Exception {
+    new VertxUnitRunner(VertxUnitTests.class).run(new RunNotifier());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(METHODS)
+  public void blockJUnit4ClassRunner() throws Exception {
+    new BlockJUnit4ClassRunner(JUnitTests.class).run(new RunNotifier());
+  }
+}
@@ -0,0 +1,86 @@
+package io.vertx.ext.unit.benchmarks;
+
+import io.vertx.core.Handler;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.impl.TestContextImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of running a test callback with {@link TestContextImpl#run}: the context setup, the implicit
+ * async and the completion, for a test that creates {@code fanOut} asyncs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestContextBenchmark {
+
+  @Param({"0", "1", "16", "256"})
+  public int fanOut;
+
+  private Handler<TestContext> countDown;
+  private Handler<TestContext> complete;
+  private Throwable result;
+  private final Handler<Throwable> resultHandler = err -> result = err;
+
+  @Setup
+  public void setup() {
+    int n = fanOut;
+    countDown = context -> {
+      if (n > 0) {
+        Async async = context.async(n);
+        for (int i = 0;i < n;i++) {
+          async.countDown();
+        }
+      }
+    };
+    complete = context -> {
+      Async[] asyncs = new Async[n];
+      for (int i = 0;i < n;i++) {
+        asyncs[i] = context.async();
+      }
+      for (Async async : asyncs) {
+        async.complete();
+      }
+    };
+  }
+
+  private Throwable run(Handler<TestContext> test) {
+    result = null;
+    TestContextImpl context = new TestContextImpl(new HashMap<>(), null);
+    context.run(null, 0, test, resultHandler);
+    return result;
+  }
+
+  /**
+   * A single async counted down {@code fanOut} times.
+   */
+  @Benchmark
+  public Throwable asyncCountDown() {
+    return run(countDown);
+  }
+
+  /**
+   * {@code fanOut} asyncs created, then completed.
+   */
+  @Benchmark
+  public Throwable asyncComplete() {
+    return run(complete);
+  }
+}
@@ -0,0 +1,25 @@
+package io.vertx.ext.unit.benchmarks;
+
+import io.vertx.ext.unit.impl.FailureImpl;
+import io.vertx.ext.unit.impl.TestResultImpl;
+import io.vertx.ext.unit.report.Failure;
+import io.vertx.ext.unit.report.TestResult;
+
+/**
+ * Test results fixtures for the reporting benchmarks.
+ */
+class TestResults {
+
+  /**
+   * Create {@code size} test results, one result out of ten is a failure.
+   */
+  static TestResult[] create(int size) {
+    Failure failure = new FailureImpl(new AssertionError("Expected 1 instead of 2"));
+    TestResult[] results = new TestResult[size];
+    long now = System.currentTimeMillis();
+    for (int i = 0;i < size;i++) {
+      results[i] = new TestResultImpl("test_case_" + i, now + i, i % 50, i % 10 == 9 ? failure : null);
+    }
+    return results;
+  }
+}
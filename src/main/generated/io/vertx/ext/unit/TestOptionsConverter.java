@@ -24,6 +24,76 @@ public class TestOptionsConverter {
             obj.setUseEventLoop((Boolean)member.getValue());
           }
           break;
+        case "sampleEventLoopLag":
+          if (member.getValue() instanceof Boolean) {
+            obj.setSampleEventLoopLag((Boolean)member.getValue());
+          }
+          break;
+        case "maxEventLoopLag":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxEventLoopLag(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "maxBlockedThreadTime":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxBlockedThreadTime(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "failOnBlockedThread":
+          if (member.getValue() instanceof Boolean) {
+            obj.setFailOnBlockedThread((Boolean)member.getValue());
+          }
+          break;
+        case "detectBufferLeaks":
+          if (member.getValue() instanceof Boolean) {
+            obj.setDetectBufferLeaks((Boolean)member.getValue());
+          }
+          break;
+        case "detectThreadLeaks":
+          if (member.getValue() instanceof Boolean) {
+            obj.setDetectThreadLeaks((Boolean)member.getValue());
+          }
+          break;
+        case "failOnThreadLeak":
+          if (member.getValue() instanceof Boolean) {
+            obj.setFailOnThreadLeak((Boolean)member.getValue());
+          }
+          break;
+        case "threadLeakGracePeriod":
+          if (member.getValue() instanceof Number) {
+            obj.setThreadLeakGracePeriod(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "detectVertxLeaks":
+          if (member.getValue() instanceof Boolean) {
+            obj.setDetectVertxLeaks((Boolean)member.getValue());
+          }
+          break;
+        case "profilingInterval":
+          if (member.getValue() instanceof Number) {
+            obj.setProfilingInterval(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "timeoutDiagnostics":
+          if (member.getValue() instanceof Boolean) {
+            obj.setTimeoutDiagnostics((Boolean)member.getValue());
+          }
+          break;
+        case "stallTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setStallTimeout(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "traceAsyncs":
+          if (member.getValue() instanceof Boolean) {
+            obj.setTraceAsyncs((Boolean)member.getValue());
+          }
+          break;
+        case "measureEventBus":
+          if (member.getValue() instanceof Boolean) {
+            obj.setMeasureEventBus((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -37,5 +107,19 @@ public class TestOptionsConverter {
     if (obj.isUseEventLoop() != null) {
       json.put("useEventLoop", obj.isUseEventLoop());
     }
+    json.put("sampleEventLoopLag", obj.isSampleEventLoopLag());
+    json.put("maxEventLoopLag", obj.getMaxEventLoopLag());
+    json.put("maxBlockedThreadTime", obj.getMaxBlockedThreadTime());
+    json.put("failOnBlockedThread", obj.isFailOnBlockedThread());
+    json.put("detectBufferLeaks", obj.isDetectBufferLeaks());
+    json.put("detectThreadLeaks", obj.isDetectThreadLeaks());
+    json.put("failOnThreadLeak", obj.isFailOnThreadLeak());
+    json.put("threadLeakGracePeriod", obj.getThreadLeakGracePeriod());
+    json.put("detectVertxLeaks", obj.isDetectVertxLeaks());
+    json.put("profilingInterval", obj.getProfilingInterval());
+    json.put("timeoutDiagnostics", obj.isTimeoutDiagnostics());
+    json.put("stallTimeout", obj.getStallTimeout());
+    json.put("traceAsyncs", obj.isTraceAsyncs());
+    json.put("measureEventBus", obj.isMeasureEventBus());
   }
 }
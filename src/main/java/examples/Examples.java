@@ -5,12 +5,16 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.docgen.Source;
 import io.vertx.ext.unit.*;
 import io.vertx.ext.unit.collect.EventBusCollector;
@@ -18,6 +22,7 @@ import io.vertx.ext.unit.report.ReportOptions;
 import io.vertx.ext.unit.report.ReportingOptions;
 import org.junit.Assert;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -153,6 +158,13 @@ public class Examples {
     }));
   }
 
+  public static void asserting_10(io.vertx.ext.unit.TestSuite suite, Histogram latencies, long ops, long elapsedMillis) {
+    suite.test("my_test_case", context -> {
+      context.assertLatency(latencies).p99Below(20, TimeUnit.MILLISECONDS);
+      context.assertThroughput(ops, elapsedMillis).atLeast(50_000);
+    });
+  }
+
   public static void async_01(io.vertx.ext.unit.TestSuite suite, EventBus eventBus) {
     suite.test("my_test_case", context -> {
       Async async = context.async();
@@ -332,6 +344,107 @@ public class Examples {
     });
   }
 
+  public static void load_01(Vertx vertx) {
+    TestSuite.create("my_suite").test("my_test", context -> {
+      // Send 1000 requests per second during 10 seconds
+      context.generateLoad("ping", 1000, 10, TimeUnit.SECONDS, () -> vertx.eventBus().request("the-address", "ping"));
+    });
+  }
+
+  public static void metrics_01(Vertx vertx) {
+    TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async(100);
+      for (int i = 0;i < 100;i++) {
+        long start = System.nanoTime();
+        vertx.eventBus().request("the-address", "ping").onComplete(ar -> {
+          if (ar.succeeded()) {
+            context.record("ping.latency", System.nanoTime() - start);
+          } else {
+            context.increment("ping.failures");
+          }
+          async.countDown();
+        });
+      }
+    });
+  }
+
+  public static void timeline_01(Vertx vertx, HttpClient client) {
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> {
+      Async query = context.async("db-query");
+      Async call = context.async("http-call");
+      vertx.eventBus().request("the-db", "select").onComplete(ar -> query.complete());
+      client.request(HttpMethod.GET, 8080, "localhost", "/").
+          compose(HttpClientRequest::send).
+          onComplete(ar -> call.complete());
+    });
+
+    // Record the timeline of the asyncs and its critical path
+    suite.run(vertx, new TestOptions().setTraceAsyncs(true));
+  }
+
+  public static void resources_01(io.vertx.ext.unit.TestSuite suite, Buffer payload) {
+    suite.test("my_test_case", context -> {
+      // Fail the test when it allocates more than 10 MB
+      context.allocationBudget(10 * 1024 * 1024);
+      for (int i = 0;i < 1000;i++) {
+        JsonObject json = payload.toJsonObject();
+        context.assertNotNull(json.getString("id"));
+      }
+    });
+  }
+
+  public static void resources_02(TestSuite suite, Vertx vertx) {
+    TestOptions options = new TestOptions().setDetectBufferLeaks(true);
+
+    // Fail the tests leaking buffers
+    suite.run(vertx, options);
+  }
+
+  public static void resources_03(TestSuite suite, Vertx vertx) {
+    TestOptions options = new TestOptions().setDetectThreadLeaks(true).setFailOnThreadLeak(true);
+
+    // Fail the tests leaking threads
+    suite.run(vertx, options);
+  }
+
+  public static void resources_04(TestSuite suite) {
+    // Track the event bus consumers
+    Vertx vertx = Vertx.builder()
+      .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+      .withMetrics(new TestMetricsFactory())
+      .build();
+
+    // Report the timers and consumers leaked by the tests and cancel the timers
+    suite.run(vertx, new TestOptions().setDetectVertxLeaks(true));
+  }
+
+  public static void resources_05(TestSuite suite, Vertx vertx) {
+    TestOptions options = new TestOptions().
+      setProfilingInterval(10).
+      addReporter(new ReportOptions().setTo("file:target/profiles"));
+
+    // Sample the stacks every 10 ms and write the collapsed stacks in target/profiles
+    suite.run(vertx, options);
+  }
+
+  public static void resources_06(TestSuite suite, Vertx vertx) {
+    TestOptions options = new TestOptions().setMeasureEventBus(true);
+
+    // Account the messages, payload bytes and request round-trips per event bus address
+    suite.run(vertx, options);
+  }
+
+  public static void resources_07(TestSuite suite) {
+    // Attribute the network usage to the tests
+    Vertx vertx = Vertx.builder()
+      .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+      .withMetrics(new TestMetricsFactory())
+      .build();
+
+    // The test results report the connections opened and the bytes read and written
+    suite.run(vertx);
+  }
+
   public static void sharing_01(Vertx vertx, Helper helper) {
     TestSuite.create("my_suite").before(context -> {
 
@@ -424,6 +537,34 @@ public class Examples {
     suite.run(options);
   }
 
+  public static void running_06(TestSuite suite, Vertx vertx) {
+    TestOptions options = new TestOptions().setMaxEventLoopLag(50);
+
+    // Fail the tests blocking the event loop more than 50 ms
+    suite.run(vertx, options);
+  }
+
+  public static void running_07(TestSuite suite, Vertx vertx) {
+    TestOptions options = new TestOptions().setMaxBlockedThreadTime(500).setFailOnBlockedThread(true);
+
+    // Fail the tests blocking a thread more than 500 ms
+    suite.run(vertx, options);
+  }
+
+  public static void running_08(TestSuite suite) {
+    TestOptions options = new TestOptions().setTimeout(10000).setTimeoutDiagnostics(true);
+
+    // Report the pending asyncs and the test threads when a test times out
+    suite.run(options);
+  }
+
+  public static void running_09(TestSuite suite) {
+    TestOptions options = new TestOptions().setTimeout(120000).setStallTimeout(5000);
+
+    // Fail a test after 5 seconds without progress instead of waiting 2 minutes
+    suite.run(options);
+  }
+
   public static void reporter_01(TestSuite suite) {
 
     // Report to console
@@ -450,6 +591,26 @@ public class Examples {
     collector.register("the-address");
   }
 
+  public static void reporter_03(Vertx vertx, TestSuite suite) {
+
+    // Write a trace of the test suite and its labelled asyncs to the target directory
+    ReportOptions traceReport = new ReportOptions().
+        setTo("file:target").
+        setFormat("trace");
+
+    suite.run(vertx, new TestOptions().setTraceAsyncs(true).addReporter(traceReport));
+  }
+
+  public static void reporter_04(Vertx vertx, TestSuite suite) {
+
+    // Write the spans of the test suite to the target directory
+    ReportOptions spanReport = new ReportOptions().
+        setTo("file:target").
+        setFormat("otlp");
+
+    suite.run(vertx, new TestOptions().addReporter(spanReport));
+  }
+
   public static void vertxInteg1(Vertx vertx, TestSuite suite) throws Exception {
     suite.test("my_test_case", ctx -> {
 
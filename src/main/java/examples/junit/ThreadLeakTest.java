@@ -0,0 +1,20 @@
+package examples.junit;
+
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.DetectThreadLeaks;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(VertxUnitRunner.class)
+@DetectThreadLeaks(fail = true)
+public class ThreadLeakTest {
+
+  @Test
+  public void testSomething(TestContext context) {
+    Vertx vertx = Vertx.vertx();
+    // This test fails if Vert.x is not closed
+    vertx.close().onComplete(context.asyncAssertSuccess());
+  }
+}
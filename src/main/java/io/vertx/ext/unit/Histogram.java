@@ -0,0 +1,68 @@
+package io.vertx.ext.unit;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.impl.HistogramImpl;
+
+/**
+ * A histogram of positive {@code long} values, typically latencies expressed in nanoseconds.<p/>
+ *
+ * Values are recorded in buckets with a relative precision better than 1%, recording is lock-free and
+ * can be done concurrently from any thread.
+ */
+@VertxGen
+public interface Histogram {
+
+  /**
+   * @return a new empty histogram
+   */
+  static Histogram create() {
+    return new HistogramImpl();
+  }
+
+  /**
+   * Record a value in the histogram, negative values are recorded as {@code 0}.
+   *
+   * @param value the value to record
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  Histogram record(long value);
+
+  /**
+   * @return the number of recorded values
+   */
+  long count();
+
+  /**
+   * @return the smallest recorded value or {@code 0} when the histogram is empty
+   */
+  long min();
+
+  /**
+   * @return the largest recorded value or {@code 0} when the histogram is empty
+   */
+  long max();
+
+  /**
+   * @return the mean of the recorded values or {@code 0} when the histogram is empty
+   */
+  double mean();
+
+  /**
+   * Compute the value at the given {@code percentile}, i.e the value below or equal to which this percentage of
+   * the recorded values lies.
+   *
+   * @param percentile the percentile between {@code 0} and {@code 100}
+   * @return the value at the percentile or {@code 0} when the histogram is empty
+   */
+  long valueAtPercentile(double percentile);
+
+  /**
+   * @return a json summary of the distribution: {@code count}, {@code min}, {@code max}, {@code mean},
+   * {@code p50}, {@code p90}, {@code p99} and {@code p999}
+   */
+  JsonObject toJson();
+
+}
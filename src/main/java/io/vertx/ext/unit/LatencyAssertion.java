@@ -0,0 +1,95 @@
+package io.vertx.ext.unit;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.VertxGen;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assertions on a latency {@link Histogram}, the histogram values are expected to be expressed in nanoseconds.<p/>
+ *
+ * A failed assertion fails the test with a {@link PerformanceAssertionError} carrying the measured distribution.
+ */
+@VertxGen
+public interface LatencyAssertion {
+
+  /**
+   * Assert the latency at the given {@code percentile} is below the {@code limit}.
+   *
+   * @param percentile the percentile between {@code 0} and {@code 100}
+   * @param limit the limit expressed in the {@code unit} argument
+   * @param unit the {@code limit} unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore
+  LatencyAssertion percentileBelow(double percentile, long limit, TimeUnit unit);
+
+  /**
+   * Assert the median latency is below the {@code limit}.
+   *
+   * @param limit the limit expressed in the {@code unit} argument
+   * @param unit the {@code limit} unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore
+  LatencyAssertion p50Below(long limit, TimeUnit unit);
+
+  /**
+   * Assert the 90th percentile latency is below the {@code limit}.
+   *
+   * @param limit the limit expressed in the {@code unit} argument
+   * @param unit the {@code limit} unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore
+  LatencyAssertion p90Below(long limit, TimeUnit unit);
+
+  /**
+   * Assert the 99th percentile latency is below the {@code limit}.
+   *
+   * @param limit the limit expressed in the {@code unit} argument
+   * @param unit the {@code limit} unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore
+  LatencyAssertion p99Below(long limit, TimeUnit unit);
+
+  /**
+   * Assert the 99.9th percentile latency is below the {@code limit}.
+   *
+   * @param limit the limit expressed in the {@code unit} argument
+   * @param unit the {@code limit} unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore
+  LatencyAssertion p999Below(long limit, TimeUnit unit);
+
+  /**
+   * Assert the maximum latency is below the {@code limit}.
+   *
+   * @param limit the limit expressed in the {@code unit} argument
+   * @param unit the {@code limit} unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore
+  LatencyAssertion maxBelow(long limit, TimeUnit unit);
+
+  /**
+   * Assert the mean latency is below the {@code limit}.
+   *
+   * @param limit the limit expressed in the {@code unit} argument
+   * @param unit the {@code limit} unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  @GenIgnore
+  LatencyAssertion meanBelow(long limit, TimeUnit unit);
+
+}
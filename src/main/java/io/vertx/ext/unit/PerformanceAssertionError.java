@@ -0,0 +1,27 @@
+package io.vertx.ext.unit;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * An assertion error signaling a performance assertion failed, for instance a latency percentile or a throughput
+ * not meeting the expected value.<p/>
+ *
+ * The error carries the measurements that were asserted so reporters can render them.
+ */
+public class PerformanceAssertionError extends AssertionError {
+
+  // Kept encoded, the error must remain serializable
+  private final String measurements;
+
+  public PerformanceAssertionError(String message, JsonObject measurements) {
+    super(message);
+    this.measurements = measurements != null ? measurements.encode() : null;
+  }
+
+  /**
+   * @return the measurements that failed the assertion
+   */
+  public JsonObject measurements() {
+    return measurements != null ? new JsonObject(measurements) : new JsonObject();
+  }
+}
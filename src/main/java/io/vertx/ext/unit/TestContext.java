@@ -4,8 +4,12 @@ import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 /**
  * The test context is used for performing test assertions and manage the completion of the test. This context
  * is provided by <i>vertx-unit</i> as argument of the test case.
@@ -200,6 +204,82 @@ public interface TestContext {
   @Fluent
   TestContext assertNotEquals(Object first, Object second, String message);
 
+  /**
+   * Set the budget of bytes the test case is allowed to allocate. The bytes allocated by the threads executing
+   * the test handlers (event loop, worker or caller thread) are measured over the test case execution, including
+   * the <i>beforeEach</i> and <i>afterEach</i> callbacks and the repetitions of the test. The test case fails with a
+   * {@link PerformanceAssertionError} when it allocates more than its budget.<p/>
+   *
+   * The budget is ignored when the JVM does not support thread allocation measurement.
+   *
+   * @param bytes the maximum number of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  TestContext allocationBudget(long bytes);
+
+  /**
+   * Record a {@code value} for the metric named {@code name}. The values recorded for a metric are aggregated
+   * for the test case and reported in the test result metrics as {@code name.count}, {@code name.sum},
+   * {@code name.min} and {@code name.max}.<p/>
+   *
+   * This method can be called from any thread.
+   *
+   * @param name the metric name
+   * @param value the value to record
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  TestContext record(String name, long value);
+
+  /**
+   * Increment the counter named {@code name}. The counter is aggregated for the test case and reported in the
+   * test result metrics.<p/>
+   *
+   * This method can be called from any thread.
+   *
+   * @param name the counter name
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  TestContext increment(String name);
+
+  /**
+   * Create and returns latency assertions on the specified {@code histogram} whose values are expressed in
+   * nanoseconds, for example {@code assertLatency(histogram).p99Below(20, TimeUnit.MILLISECONDS)}.<p/>
+   *
+   * When an assertion fails, a {@link PerformanceAssertionError} carrying the measured distribution is thrown,
+   * the failure is reported as a performance failure.
+   *
+   * @param histogram the latency histogram
+   * @return the latency assertions
+   */
+  LatencyAssertion assertLatency(Histogram histogram);
+
+  /**
+   * Create and returns throughput assertions on the rate of {@code operations} executed during the
+   * {@code elapsed} time, for example {@code assertThroughput(ops, elapsed, TimeUnit.SECONDS).atLeast(50_000)}.<p/>
+   *
+   * When an assertion fails, a {@link PerformanceAssertionError} carrying the measured values is thrown,
+   * the failure is reported as a performance failure.
+   *
+   * @param operations the number of operations
+   * @param elapsed the time elapsed executing the operations
+   * @param unit the {@code elapsed} unit
+   * @return the throughput assertions
+   */
+  @GenIgnore
+  ThroughputAssertion assertThroughput(long operations, long elapsed, TimeUnit unit);
+
+  /**
+   * Like {@link #assertThroughput(long, long, TimeUnit)} with an {@code elapsed} time in milliseconds.
+   *
+   * @param operations the number of operations
+   * @param elapsedMillis the time elapsed executing the operations in milliseconds
+   * @return the throughput assertions
+   */
+  ThroughputAssertion assertThroughput(long operations, long elapsedMillis);
+
   /**
    * Execute the provided handler, which may contain assertions, possibly from any third-party assertion framework.
    * Any {@link AssertionError} thrown will be caught (and propagated) in order to fulfill potential expected async
@@ -256,6 +336,31 @@ public interface TestContext {
    */
   Async async(int count);
 
+  /**
+   * Create and returns a new labelled async object, the returned async controls the completion of the test. Calling
+   * the {@link Async#complete()} completes the async operation.<p/>
+   *
+   * The label identifies the async in the test diagnostics and in the timeline recorded when the
+   * {@link io.vertx.ext.unit.TestOptions#setTraceAsyncs tracing} is enabled, e.g {@code "db-query"}.
+   *
+   * @param label the async label
+   * @return the async instance
+   */
+  Async async(String label);
+
+  /**
+   * Create and returns a new labelled async object, the returned async controls the completion of the test. This
+   * async operation completes when the {@link Async#countDown()} is called {@code count} times.<p/>
+   *
+   * The label identifies the async in the test diagnostics and in the timeline recorded when the
+   * {@link io.vertx.ext.unit.TestOptions#setTraceAsyncs tracing} is enabled, e.g {@code "db-query"}.
+   *
+   * @param label the async label
+   * @param count the async count
+   * @return the async instance
+   */
+  Async async(String label, int count);
+
   /**
    * Create and returns a new async object, the returned async controls the completion of the test.
    * This async operation completes when the {@link Async#countDown()} is called {@code count} times.<p/>
@@ -328,4 +433,27 @@ public interface TestContext {
    * @return an exception handler that will fail this context
    */
   Handler<Throwable> exceptionHandler();
+
+  /**
+   * Generate an open-loop load: the {@code operation} is invoked at the fixed target {@code rate} during the
+   * {@code duration}, regardless of the completion of the previous invocations.<p/>
+   *
+   * The latency of each operation is measured from its intended send time rather than from its actual send time,
+   * so the queueing delay of the system under test is accounted. The latencies of the succeeded operations
+   * are recorded in nanoseconds in the histogram returned when the load completes.<p/>
+   *
+   * The test case will not complete until all the operations have completed. The target and achieved rates as
+   * well as the latency percentiles are added to the test result metrics, prefixed by the {@code name}.<p/>
+   *
+   * The test must be executed on a Vert.x context, the schedule is driven by a periodic timer on this context.
+   *
+   * @param name the load name, used as prefix of the reported metrics
+   * @param rate the target rate in operations per second
+   * @param duration the load duration
+   * @param unit the duration unit
+   * @param operation the operation to invoke, returning a future signaling the operation completion
+   * @return a future completed with the latency histogram when all the operations are completed
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  Future<Histogram> generateLoad(String name, long rate, long duration, TimeUnit unit, Supplier<Future<?>> operation);
 }
@@ -0,0 +1,28 @@
+package io.vertx.ext.unit;
+
+import io.vertx.core.VertxOptions;
+import io.vertx.core.spi.VertxMetricsFactory;
+import io.vertx.core.spi.metrics.VertxMetrics;
+import io.vertx.ext.unit.impl.TestVertxMetrics;
+
+/**
+ * A metrics factory attributing the usage of a {@code Vertx} instance to the tests it runs, for instance the event bus
+ * consumers leaked by a test or the connections opened and the bytes read and written by the TCP and HTTP clients and
+ * servers during a test.<p/>
+ *
+ * The factory is configured when the {@code Vertx} instance is built, the metrics must be enabled:
+ *
+ * <pre>
+ * Vertx vertx = Vertx.builder()
+ *   .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+ *   .withMetrics(new TestMetricsFactory())
+ *   .build();
+ * </pre>
+ */
+public class TestMetricsFactory implements VertxMetricsFactory {
+
+  @Override
+  public VertxMetrics metrics(VertxOptions options) {
+    return new TestVertxMetrics();
+  }
+}
@@ -22,6 +22,27 @@ import java.util.List;
  *       otherwise run without</li>
  *     </ul>
  *   </li>
+ *   <li>the {@code sampleEventLoopLag} reports the lag of the event loop of each test in the test metrics</li>
+ *   <li>the {@code maxEventLoopLag} in milliseconds fails the tests lagging the event loop more, the default
+ *   value {@code 0} disables the check</li>
+ *   <li>the {@code maxBlockedThreadTime} in milliseconds reports the threads executing a test handler blocked
+ *   for longer, the default value {@code 0} disables the check</li>
+ *   <li>the {@code failOnBlockedThread} fails the test as soon as a blocked thread is reported</li>
+ *   <li>the {@code detectBufferLeaks} forces the detection of the buffers leaked by each test and fails the
+ *   leaking tests</li>
+ *   <li>the {@code detectThreadLeaks} reports the threads leaked by each test and by the test suite</li>
+ *   <li>the {@code failOnThreadLeak} fails the tests and the test suite leaking threads</li>
+ *   <li>the {@code threadLeakGracePeriod} in milliseconds given to the new threads to terminate, the default value
+ *   is 1 second</li>
+ *   <li>the {@code detectVertxLeaks} reports the timers and the event bus consumers leaked by each test, the leaked
+ *   timers are cancelled</li>
+ *   <li>the {@code profilingInterval} in milliseconds samples the stacks of the threads executing each test, the
+ *   default value {@code 0} disables the profiling</li>
+ *   <li>the {@code timeoutDiagnostics} describes the pending asyncs and the test threads in the timeout failures</li>
+ *   <li>the {@code stallTimeout} in milliseconds fails the tests making no progress for longer, the default value
+ *   {@code 0} disables the check</li>
+ *   <li>the {@code traceAsyncs} records the timeline of the asyncs of each test and its critical path</li>
+ *   <li>the {@code measureEventBus} accounts the event bus messages of each test per address</li>
  *   <li>the {@code reporters} is an array of reporter configurations</li>
  * </ul>
  *
@@ -41,8 +62,92 @@ public class TestOptions extends ReportingOptions {
    */
   public static final Boolean DEFAULT_USE_EVENT_LOOP = null;
 
+  /**
+   * The default value for sampling the event loop lag: {@code false}.
+   */
+  public static final boolean DEFAULT_SAMPLE_EVENT_LOOP_LAG = false;
+
+  /**
+   * The default max event loop lag in milliseconds: {@code 0}, i.e no check.
+   */
+  public static final long DEFAULT_MAX_EVENT_LOOP_LAG = 0;
+
+  /**
+   * The default max blocked thread time in milliseconds: {@code 0}, the check is disabled.
+   */
+  public static final long DEFAULT_MAX_BLOCKED_THREAD_TIME = 0;
+
+  /**
+   * The default value for failing a test when a blocked thread is reported: {@code false}.
+   */
+  public static final boolean DEFAULT_FAIL_ON_BLOCKED_THREAD = false;
+
+  /**
+   * The default value for forcing the detection of leaked buffers: {@code false}.
+   */
+  public static final boolean DEFAULT_DETECT_BUFFER_LEAKS = false;
+
+  /**
+   * The default value for detecting leaked threads: {@code false}.
+   */
+  public static final boolean DEFAULT_DETECT_THREAD_LEAKS = false;
+
+  /**
+   * The default value for failing a test leaking threads: {@code false}.
+   */
+  public static final boolean DEFAULT_FAIL_ON_THREAD_LEAK = false;
+
+  /**
+   * The default thread leak grace period in milliseconds: 1 second.
+   */
+  public static final long DEFAULT_THREAD_LEAK_GRACE_PERIOD = 1000;
+
+  /**
+   * The default value for detecting leaked timers and event bus consumers: {@code false}.
+   */
+  public static final boolean DEFAULT_DETECT_VERTX_LEAKS = false;
+
+  /**
+   * The default profiling interval in milliseconds: {@code 0}, i.e no profiling.
+   */
+  public static final long DEFAULT_PROFILING_INTERVAL = 0;
+
+  /**
+   * The default value for diagnosing the timeouts: {@code false}.
+   */
+  public static final boolean DEFAULT_TIMEOUT_DIAGNOSTICS = false;
+
+  /**
+   * The default stall timeout in milliseconds: {@code 0}, i.e no check.
+   */
+  public static final long DEFAULT_STALL_TIMEOUT = 0;
+
+  /**
+   * The default value for tracing the asyncs: {@code false}.
+   */
+  public static final boolean DEFAULT_TRACE_ASYNCS = false;
+
+  /**
+   * The default value for measuring the event bus traffic of the tests: {@code false}.
+   */
+  public static final boolean DEFAULT_MEASURE_EVENT_BUS = false;
+
   private long timeout = DEFAULT_TIMEOUT;
   private Boolean useEventLoop = DEFAULT_USE_EVENT_LOOP;
+  private boolean sampleEventLoopLag = DEFAULT_SAMPLE_EVENT_LOOP_LAG;
+  private long maxEventLoopLag = DEFAULT_MAX_EVENT_LOOP_LAG;
+  private long maxBlockedThreadTime = DEFAULT_MAX_BLOCKED_THREAD_TIME;
+  private boolean failOnBlockedThread = DEFAULT_FAIL_ON_BLOCKED_THREAD;
+  private boolean detectBufferLeaks = DEFAULT_DETECT_BUFFER_LEAKS;
+  private boolean detectThreadLeaks = DEFAULT_DETECT_THREAD_LEAKS;
+  private boolean failOnThreadLeak = DEFAULT_FAIL_ON_THREAD_LEAK;
+  private long threadLeakGracePeriod = DEFAULT_THREAD_LEAK_GRACE_PERIOD;
+  private boolean detectVertxLeaks = DEFAULT_DETECT_VERTX_LEAKS;
+  private long profilingInterval = DEFAULT_PROFILING_INTERVAL;
+  private boolean timeoutDiagnostics = DEFAULT_TIMEOUT_DIAGNOSTICS;
+  private long stallTimeout = DEFAULT_STALL_TIMEOUT;
+  private boolean traceAsyncs = DEFAULT_TRACE_ASYNCS;
+  private boolean measureEventBus = DEFAULT_MEASURE_EVENT_BUS;
 
   /**
    * Create a new empty options, with the default time out and no reporters.
@@ -59,6 +164,20 @@ public class TestOptions extends ReportingOptions {
     super(other);
     setTimeout(other.timeout);
     setUseEventLoop(other.useEventLoop);
+    setSampleEventLoopLag(other.sampleEventLoopLag);
+    setMaxEventLoopLag(other.maxEventLoopLag);
+    setMaxBlockedThreadTime(other.maxBlockedThreadTime);
+    setFailOnBlockedThread(other.failOnBlockedThread);
+    setDetectBufferLeaks(other.detectBufferLeaks);
+    setDetectThreadLeaks(other.detectThreadLeaks);
+    setFailOnThreadLeak(other.failOnThreadLeak);
+    setThreadLeakGracePeriod(other.threadLeakGracePeriod);
+    setDetectVertxLeaks(other.detectVertxLeaks);
+    setProfilingInterval(other.profilingInterval);
+    setTimeoutDiagnostics(other.timeoutDiagnostics);
+    setStallTimeout(other.stallTimeout);
+    setTraceAsyncs(other.traceAsyncs);
+    setMeasureEventBus(other.measureEventBus);
   }
 
   /**
@@ -109,6 +228,314 @@ public class TestOptions extends ReportingOptions {
     return this;
   }
 
+  /**
+   * @return true if the event loop lag is sampled
+   */
+  public boolean isSampleEventLoopLag() {
+    return sampleEventLoopLag;
+  }
+
+  /**
+   * Configure the sampling of the event loop lag of the tests running on an event loop: a probe task is posted
+   * to the event loop every 10 milliseconds while the test is running, the lag percentiles and the busy ratio of the
+   * event loop are added to the {@link io.vertx.ext.unit.report.TestResult#metrics() metrics} of the test result.
+   * The lag is also sampled when a {@link #setMaxEventLoopLag max event loop lag} is set.
+   *
+   * @param sampleEventLoopLag true to sample the event loop lag
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setSampleEventLoopLag(boolean sampleEventLoopLag) {
+    this.sampleEventLoopLag = sampleEventLoopLag;
+    return this;
+  }
+
+  /**
+   * @return the max event loop lag in milliseconds
+   */
+  public long getMaxEventLoopLag() {
+    return maxEventLoopLag;
+  }
+
+  /**
+   * Set the max event loop lag, a test fails when the event loop it runs on is lagging more than this value.
+   * The lag is the delay before the event loop executes a probe task that is periodically posted while the
+   * test is running.
+   *
+   * @param maxEventLoopLag the max lag in milliseconds, {@code 0} or a negative value disables the check
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setMaxEventLoopLag(long maxEventLoopLag) {
+    this.maxEventLoopLag = maxEventLoopLag;
+    return this;
+  }
+
+  /**
+   * @return the max blocked thread time in milliseconds
+   */
+  public long getMaxBlockedThreadTime() {
+    return maxBlockedThreadTime;
+  }
+
+  /**
+   * Set the max blocked thread time, a thread executing a test handler for longer than this value is reported
+   * as blocked and its stack trace is recorded in the test result. The event loop of the test is also reported
+   * when it cannot execute a task for longer than this value.
+   *
+   * @param maxBlockedThreadTime the max time in milliseconds, {@code 0} or a negative value disables the check
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setMaxBlockedThreadTime(long maxBlockedThreadTime) {
+    this.maxBlockedThreadTime = maxBlockedThreadTime;
+    return this;
+  }
+
+  /**
+   * @return true if a test fails as soon as a blocked thread is reported
+   */
+  public boolean isFailOnBlockedThread() {
+    return failOnBlockedThread;
+  }
+
+  /**
+   * Configure the test to fail as soon as a blocked thread is reported instead of waiting for the test timeout.
+   *
+   * @param failOnBlockedThread true to fail the test
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setFailOnBlockedThread(boolean failOnBlockedThread) {
+    this.failOnBlockedThread = failOnBlockedThread;
+    return this;
+  }
+
+  /**
+   * @return true if the detection of the leaked buffers is forced at the end of each test
+   */
+  public boolean isDetectBufferLeaks() {
+    return detectBufferLeaks;
+  }
+
+  /**
+   * Configure the detection of the buffers leaked by a test. The Netty leak detector reports a leaked buffer
+   * asynchronously after it has been garbage collected, when enabled the detection is forced at the end of each
+   * test with a garbage collection and the tests leaking buffers fail. The growth of the direct memory is added to
+   * the test metrics. The detection is reliable with the {@code paranoid} Netty leak detection level, it installs
+   * the Netty leak listener.
+   *
+   * @param detectBufferLeaks true to force the detection
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setDetectBufferLeaks(boolean detectBufferLeaks) {
+    this.detectBufferLeaks = detectBufferLeaks;
+    return this;
+  }
+
+  /**
+   * @return true if the threads leaked by the tests and the test suite are reported
+   */
+  public boolean isDetectThreadLeaks() {
+    return detectThreadLeaks;
+  }
+
+  /**
+   * Configure the detection of the leaked threads. The live threads are compared before and after each test and
+   * the test suite, the non daemon threads started meanwhile and still alive after the grace period are leaked.
+   * The threads leaked by a test are recorded in the test result diagnostics, the threads leaked by the test suite
+   * are logged.
+   *
+   * @param detectThreadLeaks true to detect the leaked threads
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setDetectThreadLeaks(boolean detectThreadLeaks) {
+    this.detectThreadLeaks = detectThreadLeaks;
+    return this;
+  }
+
+  /**
+   * @return true if the tests and the test suite leaking threads fail
+   */
+  public boolean isFailOnThreadLeak() {
+    return failOnThreadLeak;
+  }
+
+  /**
+   * Configure the tests and the test suite leaking threads to fail, the leaked threads must be detected
+   * with {@link #setDetectThreadLeaks(boolean)}.
+   *
+   * @param failOnThreadLeak true to fail
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setFailOnThreadLeak(boolean failOnThreadLeak) {
+    this.failOnThreadLeak = failOnThreadLeak;
+    return this;
+  }
+
+  /**
+   * @return the thread leak grace period in milliseconds
+   */
+  public long getThreadLeakGracePeriod() {
+    return threadLeakGracePeriod;
+  }
+
+  /**
+   * Set the time given to the threads started by a test or a test suite to terminate before they are considered
+   * leaked, e.g when a {@code Vertx} instance is closed asynchronously.
+   *
+   * @param threadLeakGracePeriod the grace period in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setThreadLeakGracePeriod(long threadLeakGracePeriod) {
+    this.threadLeakGracePeriod = threadLeakGracePeriod;
+    return this;
+  }
+
+  /**
+   * @return true if the timers and the event bus consumers leaked by the tests are reported
+   */
+  public boolean isDetectVertxLeaks() {
+    return detectVertxLeaks;
+  }
+
+  /**
+   * Configure the detection of the timers and the event bus consumers created by a test on the {@code Vertx}
+   * instance running it and left over after its {@code after} callback. The leftovers are recorded in the test
+   * result diagnostics.<p/>
+   *
+   * Vert.x exposes a pending timer only through its cancellation, so the leaked timers are also cancelled and
+   * do not slow down the next tests. Likewise the timers created meanwhile by another test suite running on the
+   * same {@code Vertx} instance are cancelled.<p/>
+   *
+   * The event bus consumers are tracked when the {@code Vertx} instance is built with the {@link TestMetricsFactory},
+   * they are only reported since they cannot be unregistered on behalf of the test.
+   *
+   * @param detectVertxLeaks true to detect the leaked timers and event bus consumers
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setDetectVertxLeaks(boolean detectVertxLeaks) {
+    this.detectVertxLeaks = detectVertxLeaks;
+    return this;
+  }
+
+  /**
+   * @return the profiling interval in milliseconds
+   */
+  public long getProfilingInterval() {
+    return profilingInterval;
+  }
+
+  /**
+   * Set the interval between two samples of the stacks of the threads executing the handlers of a test, the samples
+   * are aggregated in collapsed stacks in the test result {@link io.vertx.ext.unit.report.TestResult#profile()}.
+   * The sampling stops at the end of each test.
+   *
+   * @param profilingInterval the profiling interval in milliseconds, {@code 0} disables the profiling
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setProfilingInterval(long profilingInterval) {
+    this.profilingInterval = profilingInterval;
+    return this;
+  }
+
+  /**
+   * @return true if the timeouts are diagnosed
+   */
+  public boolean isTimeoutDiagnostics() {
+    return timeoutDiagnostics;
+  }
+
+  /**
+   * Configure the diagnosis of the tests timing out. The timeout failure then carries a suppressed exception per
+   * async still pending, with its counts and the stack of the code that created it, and per thread that executed
+   * a handler of the test, with its state and its stack. The creation stack of each async is captured when the async
+   * is created, so the diagnosis should be enabled when investigating a hang.
+   *
+   * @param timeoutDiagnostics true to diagnose the timeouts
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setTimeoutDiagnostics(boolean timeoutDiagnostics) {
+    this.timeoutDiagnostics = timeoutDiagnostics;
+    return this;
+  }
+
+  /**
+   * @return the stall timeout in milliseconds
+   */
+  public long getStallTimeout() {
+    return stallTimeout;
+  }
+
+  /**
+   * Set the quiet period after which a test making no progress fails, well before its {@link #setTimeout timeout}.
+   * The progress of a test is an async counted down or completed, an assertion or the execution of a handler of the
+   * test. The failure is a {@code TimeoutException} describing the pending asyncs and the test threads, like the
+   * {@link #setTimeoutDiagnostics diagnosed timeouts}.
+   *
+   * @param stallTimeout the stall timeout in milliseconds, {@code 0} disables the check
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setStallTimeout(long stallTimeout) {
+    this.stallTimeout = stallTimeout;
+    return this;
+  }
+
+  /**
+   * @return true if the asyncs are traced
+   */
+  public boolean isTraceAsyncs() {
+    return traceAsyncs;
+  }
+
+  /**
+   * Configure the tracing of the asyncs created by the tests. The creation, the count downs and the completion of
+   * each async are recorded with their time and thread in the {@link io.vertx.ext.unit.report.TestResult#asyncTimeline()
+   * timeline} of the test result, along with the critical path: the chain of asyncs ending with the async that
+   * completed last.
+   *
+   * @param traceAsyncs true to trace the asyncs
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setTraceAsyncs(boolean traceAsyncs) {
+    this.traceAsyncs = traceAsyncs;
+    return this;
+  }
+
+  /**
+   * @return true if the event bus traffic of the tests is measured
+   */
+  public boolean isMeasureEventBus() {
+    return measureEventBus;
+  }
+
+  /**
+   * Configure the accounting of the event bus traffic of the tests running on a Vert.x context. Interceptors
+   * installed on the event bus during each test count the messages sent, published and received per address, the
+   * payload bytes and the round-trip latency percentiles of the requests, they are added to the
+   * {@link io.vertx.ext.unit.report.TestResult#metrics() metrics} of the test result.<p/>
+   *
+   * The interceptors see all the traffic of the event bus, the traffic of the tests running concurrently on the same
+   * Vert.x instance is accounted to each of them.
+   *
+   * @param measureEventBus true to measure the event bus traffic
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  public TestOptions setMeasureEventBus(boolean measureEventBus) {
+    this.measureEventBus = measureEventBus;
+    return this;
+  }
+
   @Override
   public TestOptions addReporter(ReportOptions reportOptions) {
     return (TestOptions) super.addReporter(reportOptions);
@@ -0,0 +1,32 @@
+package io.vertx.ext.unit;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * Assertions on a measured throughput expressed in operations per second.<p/>
+ *
+ * A failed assertion fails the test with a {@link PerformanceAssertionError} carrying the measured values.
+ */
+@VertxGen
+public interface ThroughputAssertion {
+
+  /**
+   * Assert the throughput is at least {@code rate} operations per second.
+   *
+   * @param rate the minimum rate
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  ThroughputAssertion atLeast(double rate);
+
+  /**
+   * Assert the throughput is at most {@code rate} operations per second.
+   *
+   * @param rate the maximum rate
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  ThroughputAssertion atMost(double rate);
+
+}
@@ -12,6 +12,7 @@ import io.vertx.ext.unit.impl.TestCompletionImpl;
 import io.vertx.ext.unit.report.Reporter;
 import io.vertx.ext.unit.report.ReportingOptions;
 import io.vertx.ext.unit.report.TestSuiteReport;
+import io.vertx.ext.unit.report.impl.DefaultReporterFactory;
 
 /**
  * The event bus collector listen to events on the Vert.x event bus and translate them
@@ -60,7 +61,7 @@ public interface EventBusCollector {
    * @return the message handler
    */
   static EventBusCollector create(Vertx vertx, ReportingOptions options) {
-    Reporter[] reporters = options.getReporters().stream().map(reportOptions -> Reporter.reporter(vertx, reportOptions)).toArray(Reporter[]::new);
+    Reporter[] reporters = DefaultReporterFactory.reporters(vertx, options.getReporters());
     TestCompletionImpl reporter = new TestCompletionImpl(reporters);
     return new EventBusCollectorImpl(vertx, reporter);
   }
@@ -4,6 +4,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.unit.collect.EventBusCollector;
@@ -14,6 +15,9 @@ import io.vertx.ext.unit.report.TestCaseReport;
 import io.vertx.ext.unit.report.TestResult;
 import io.vertx.ext.unit.report.TestSuiteReport;
 
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -26,6 +30,8 @@ public class EventBusCollectorImpl implements EventBusCollector, Handler<Message
   private Handler<Void> endHandler;
   private TestSuiteReport runner;
   private Handler<TestResult> testCaseHandler;
+  private long beforeTime = -1;
+  private long afterTime = -1;
 
   public EventBusCollectorImpl(Vertx vertx, Handler<TestSuiteReport> reporter) {
     this.reporter = reporter;
@@ -39,12 +45,22 @@ public class EventBusCollectorImpl implements EventBusCollector, Handler<Message
     String name = body.getString("name");
     switch (type) {
       case EVENT_TEST_SUITE_BEGIN: {
+        beforeTime = -1;
+        afterTime = -1;
         runner = new TestSuiteReport() {
           @Override
           public String name() {
             return name;
           }
           @Override
+          public long beforeTime() {
+            return beforeTime;
+          }
+          @Override
+          public long afterTime() {
+            return afterTime;
+          }
+          @Override
           public TestSuiteReport exceptionHandler(Handler<Throwable> handler) {
             exceptionHandler = handler;
             return this;
@@ -111,13 +127,45 @@ public class EventBusCollectorImpl implements EventBusCollector, Handler<Message
           if (failureJson != null) {
             failure = new FailureImpl(failureJson);
           }
-          TestResult result = new TestResultImpl(name, body.getLong("beginTime", 0L), body.getLong("durationTime", 0L), failure);
+          TestResultImpl result = new TestResultImpl(name, body.getLong("beginTime", 0L), body.getLong("durationTime", 0L), failure, body.getJsonObject("metrics")).
+              setDurationNanos(body.getLong("durationNanos", TimeUnit.MILLISECONDS.toNanos(body.getLong("durationTime", 0L)))).
+              setAllocatedBytes(body.getLong("allocatedBytes", -1L)).
+              setCpuTime(body.getLong("cpuTime", -1L)).
+              setIdleRatio(body.getDouble("idleRatio", -1D)).
+              setGcCount(body.getLong("gcCount", -1L)).
+              setGcTime(body.getLong("gcTime", -1L)).
+              setBeforeEachTime(body.getLong("beforeEachTime", -1L)).
+              setTestTime(body.getLong("testTime", -1L)).
+              setAfterEachTime(body.getLong("afterEachTime", -1L));
+          if (body.containsKey("beforeEachNanos")) {
+            result.setBeforeEachNanos(body.getLong("beforeEachNanos"));
+          }
+          if (body.containsKey("testNanos")) {
+            result.setTestNanos(body.getLong("testNanos"));
+          }
+          if (body.containsKey("afterEachNanos")) {
+            result.setAfterEachNanos(body.getLong("afterEachNanos"));
+          }
+          JsonArray diagnostics = body.getJsonArray("diagnostics");
+          if (diagnostics != null) {
+            result.setDiagnostics(diagnostics.stream().map(String::valueOf).collect(Collectors.toList()));
+          }
+          JsonObject profile = body.getJsonObject("profile");
+          if (profile != null) {
+            result.setProfile(profile);
+          }
+          JsonObject asyncTimeline = body.getJsonObject("asyncTimeline");
+          if (asyncTimeline != null) {
+            result.setAsyncTimeline(asyncTimeline);
+          }
           testCaseHandler.handle(result);
           testCaseHandler = null;
         }
         break;
       }
       case EVENT_TEST_SUITE_END: {
+        beforeTime = body.getLong("beforeTime", -1L);
+        afterTime = body.getLong("afterTime", -1L);
         if (endHandler != null) {
           endHandler.handle(null);
         }
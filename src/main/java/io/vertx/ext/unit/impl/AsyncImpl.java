@@ -6,14 +6,57 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 class AsyncImpl extends CompletionImpl<Void> implements Async {
 
+  private final String label;
   private final int initialCount;
   private final AtomicInteger count;
   private final boolean strict;
+  private final TestEvents.AsyncLifecycle event;
+  private final StackTraceElement[] creationSite;
+  private final TestMonitor monitor;
+  private final AsyncTimeline timeline;
+  private final AsyncTimeline.Trace trace;
 
   AsyncImpl(int initialCount, boolean strict) {
+    this(null, initialCount, strict, null, null, null);
+  }
+
+  /**
+   * @param label the label of the async or {@code null}
+   * @param creationSite the stack of the code creating the async or {@code null}
+   * @param monitor the monitor signaled of the progress or {@code null}
+   * @param timeline the timeline recording the async or {@code null}
+   */
+  AsyncImpl(String label, int initialCount, boolean strict, StackTraceElement[] creationSite, TestMonitor monitor,
+            AsyncTimeline timeline) {
+    this.label = label;
     this.initialCount = initialCount;
+    this.creationSite = creationSite;
+    this.monitor = monitor;
     this.strict = strict;
     this.count = new AtomicInteger(initialCount);
+    this.timeline = timeline;
+    this.trace = timeline != null ? timeline.created(label, initialCount) : null;
+    if (TestEvents.isAsyncLifecycleEnabled()) {
+      TestEvents.AsyncLifecycle event = new TestEvents.AsyncLifecycle();
+      event.label = label;
+      event.count = initialCount;
+      event.begin();
+      this.event = event;
+    } else {
+      this.event = null;
+    }
+  }
+
+  String label() {
+    return label;
+  }
+
+  int initialCount() {
+    return initialCount;
+  }
+
+  StackTraceElement[] creationSite() {
+    return creationSite;
   }
 
   @Override
@@ -23,6 +66,9 @@ class AsyncImpl extends CompletionImpl<Void> implements Async {
 
   @Override
   public void countDown() {
+    if (monitor != null) {
+      monitor.progress();
+    }
     int oldValue, newValue;
     do {
       oldValue = count.get();
@@ -43,6 +89,9 @@ class AsyncImpl extends CompletionImpl<Void> implements Async {
         newValue = oldValue - 1;
       }
     } while (!count.compareAndSet(oldValue, newValue));
+    if (trace != null && oldValue > 0) {
+      timeline.countDown(trace, newValue);
+    }
     if (newValue == 0) {
       release(null);
     }
@@ -50,6 +99,9 @@ class AsyncImpl extends CompletionImpl<Void> implements Async {
 
   @Override
   public void complete() {
+    if (monitor != null) {
+      monitor.progress();
+    }
     int value = count.getAndSet(0);
     if (value > 0) {
       release(null);
@@ -59,6 +111,17 @@ class AsyncImpl extends CompletionImpl<Void> implements Async {
   }
 
   void release(Throwable failure) {
+    // Commit before the completion triggers the next callbacks
+    if (!completable.isDone()) {
+      if (event != null) {
+        event.succeeded = failure == null;
+        event.failure = TestEvents.describe(failure);
+        event.commit();
+      }
+      if (trace != null) {
+        timeline.completed(trace, failure == null);
+      }
+    }
     if (failure != null) {
       completable.completeExceptionally(failure);
     } else {
@@ -0,0 +1,146 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the timeline of the asyncs of a test: their creation, count downs and completion with the time in nanos
+ * elapsed since the beginning of the test and the thread that signaled them.<p/>
+ *
+ * The critical path is computed from the timeline: it ends with the async that completed last, each async of the
+ * path is preceded by the async that completed last before its creation, i.e the async it was waiting on.
+ */
+class AsyncTimeline {
+
+  /**
+   * The trace of an async.
+   */
+  static class Trace {
+    final int id;
+    final String label;
+    final long created;
+    volatile long completed = -1;
+    private Trace(int id, String label, long created) {
+      this.id = id;
+      this.label = label;
+      this.created = created;
+    }
+    String name() {
+      return label != null ? label : "#" + id;
+    }
+  }
+
+  private final long origin = System.nanoTime();
+  private final AtomicInteger ids = new AtomicInteger();
+  private final List<Trace> traces = new ArrayList<>();
+  private final JsonArray events = new JsonArray();
+
+  /**
+   * @return the time in nanos elapsed since the timeline creation
+   */
+  long now() {
+    return System.nanoTime() - origin;
+  }
+
+  /**
+   * Record the creation of an async.
+   *
+   * @param label the async label or {@code null}
+   * @param count the async count
+   * @return the trace of the async
+   */
+  Trace created(String label, int count) {
+    Trace trace = new Trace(ids.incrementAndGet(), label, now());
+    synchronized (this) {
+      traces.add(trace);
+    }
+    record(trace, "created", trace.created, count);
+    return trace;
+  }
+
+  /**
+   * Record a count down of an async.
+   *
+   * @param trace the async trace
+   * @param count the count after the count down
+   */
+  void countDown(Trace trace, int count) {
+    record(trace, "countDown", now(), count);
+  }
+
+  /**
+   * Record the completion of an async.
+   *
+   * @param trace the async trace
+   * @param succeeded whether the async succeeded or was released by the test failure
+   */
+  void completed(Trace trace, boolean succeeded) {
+    trace.completed = now();
+    record(trace, succeeded ? "completed" : "failed", trace.completed, 0);
+  }
+
+  private void record(Trace trace, String type, long time, int count) {
+    JsonObject event = new JsonObject().
+        put("async", trace.id).
+        put("type", type).
+        put("time", time).
+        put("count", count).
+        put("thread", Thread.currentThread().getName());
+    if (trace.label != null) {
+      event.put("label", trace.label);
+    }
+    synchronized (this) {
+      events.add(event);
+    }
+  }
+
+  /**
+   * @return the critical path, from the first async to the async that completed last
+   */
+  synchronized List<Trace> criticalPath() {
+    List<Trace> completed = new ArrayList<>();
+    for (Trace trace : traces) {
+      if (trace.completed >= 0) {
+        completed.add(trace);
+      }
+    }
+    completed.sort(Comparator.comparingLong(trace -> trace.completed));
+    List<Trace> path = new ArrayList<>();
+    int index = completed.size() - 1;
+    while (index >= 0) {
+      Trace last = completed.get(index);
+      path.add(last);
+      index--;
+      while (index >= 0 && completed.get(index).completed > last.created) {
+        index--;
+      }
+    }
+    Collections.reverse(path);
+    return path;
+  }
+
+  /**
+   * @return the timeline as json: the {@code events} and the {@code criticalPath}
+   */
+  synchronized JsonObject toJson() {
+    JsonArray path = new JsonArray();
+    for (Trace trace : criticalPath()) {
+      JsonObject step = new JsonObject().
+          put("async", trace.id).
+          put("created", trace.created).
+          put("completed", trace.completed).
+          put("duration", trace.completed - trace.created);
+      if (trace.label != null) {
+        step.put("label", trace.label);
+      }
+      path.add(step);
+    }
+    return new JsonObject().put("events", events.copy()).put("criticalPath", path);
+  }
+}
@@ -0,0 +1,89 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.VertxException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Checks the threads executing the handlers of a test are not blocked: the time at which a thread enters
+ * a test handler is tracked and the stack trace of the threads executing a handler for longer than the max time
+ * is captured.<p/>
+ *
+ * The event loop of the test is also checked with the pending probe of the {@link EventLoopLagSampler}, so an
+ * event loop blocked by any task, e.g a timer set by the test, is detected.<p/>
+ *
+ * A blocked thread is reported once per blocking episode.
+ */
+class BlockedThreadChecker {
+
+  private final long maxTime;
+  private final EventLoopLagSampler lagSampler;
+  private final Consumer<Throwable> handler;
+  private final Map<Thread, Long> executing = new ConcurrentHashMap<>();
+  private final Map<Thread, Long> reported = new ConcurrentHashMap<>();
+  private ScheduledFuture<?> future;
+
+  /**
+   * @param maxTime the max blocked time in millis
+   * @param lagSampler the lag sampler of the event loop or {@code null}
+   * @param handler the handler called with a blocked thread exception
+   */
+  BlockedThreadChecker(long maxTime, EventLoopLagSampler lagSampler, Consumer<Throwable> handler) {
+    this.maxTime = maxTime;
+    this.lagSampler = lagSampler;
+    this.handler = handler;
+  }
+
+  void start() {
+    long period = Math.max(EventLoopLagSampler.INTERVAL, maxTime / 2);
+    future = EventLoopLagSampler.scheduler.scheduleAtFixedRate(this::check, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  void stop() {
+    future.cancel(false);
+  }
+
+  /**
+   * Signal the current thread begins the execution of a test handler.
+   */
+  void beginExecution() {
+    executing.put(Thread.currentThread(), System.nanoTime());
+  }
+
+  /**
+   * Signal the current thread ends the execution of a test handler.
+   */
+  void endExecution() {
+    executing.remove(Thread.currentThread());
+  }
+
+  private void check() {
+    long now = System.nanoTime();
+    executing.forEach((thread, since) -> check(thread, since, now));
+    if (lagSampler != null) {
+      Thread eventLoop = lagSampler.eventLoop();
+      long since = lagSampler.pendingSince();
+      if (eventLoop != null && since != -1 && !executing.containsKey(eventLoop)) {
+        check(eventLoop, since, now);
+      }
+    }
+  }
+
+  private void check(Thread thread, long since, long now) {
+    long blockedTime = TimeUnit.NANOSECONDS.toMillis(now - since);
+    if (blockedTime > maxTime) {
+      Long previous = reported.put(thread, since);
+      if (previous == null || previous != since) {
+        StackTraceElement[] stackTrace = thread.getStackTrace();
+        VertxException err = new VertxException("Thread " + thread.getName() + " has been blocked for " +
+            blockedTime + " ms, time limit is " + maxTime + " ms");
+        err.setStackTrace(stackTrace);
+        handler.accept(err);
+      }
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package io.vertx.ext.unit.impl;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.util.ResourceLeakDetector;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detects the buffers leaked by a test: the direct memory used by the Netty default allocators and by the JVM is
+ * snapshot at the beginning and at the end of the test, and the leaks reported by the Netty leak detector while the
+ * test runs are attributed to the test.<p/>
+ *
+ * The Netty leak detector reports a leak asynchronously, when the leaked buffer is garbage collected and a buffer
+ * is allocated afterward. The detection is forced at the end of the test, the garbage collector is requested
+ * to collect the unreachable buffers and a few buffers are allocated so the detector processes them, the leaks
+ * processed then are attributed to this test only. The leaks reported while the test runs can come from an earlier
+ * test, they are recorded but not detected. The forced detection blocks the current thread, it should not be
+ * done on an event loop. The detection is reliable with the {@code paranoid} leak detection level, the other levels
+ * only sample the allocations.
+ */
+class BufferLeakDetector {
+
+  /**
+   * The number of allocations required to process the leaks when the leak detection level samples the allocations.
+   */
+  private static final int SAMPLING_INTERVAL = 128;
+
+  /**
+   * The delay in millis given to the JVM to enqueue the references collected by the garbage collector.
+   */
+  private static final long DETECTION_DELAY = 10;
+
+  private static final Set<BufferLeakDetector> active = ConcurrentHashMap.newKeySet();
+  private static final ThreadLocal<BufferLeakDetector> detecting = new ThreadLocal<>();
+  private static final boolean registered = register();
+  private static final BufferPoolMXBean directPool = directPool();
+
+  private static boolean register() {
+    try {
+      ByteBufUtil.setLeakListener(BufferLeakDetector::leaked);
+      return true;
+    } catch (Throwable ignore) {
+      // Not supported by this Netty version
+      return false;
+    }
+  }
+
+  private static BufferPoolMXBean directPool() {
+    try {
+      for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+        if ("direct".equals(pool.getName())) {
+          return pool;
+        }
+      }
+    } catch (Throwable ignore) {
+      // Not supported
+    }
+    return null;
+  }
+
+  private static void leaked(String resourceType, String records) {
+    String leak = "LEAK: " + resourceType + ".release() was not called before it was garbage-collected";
+    if (!records.isEmpty()) {
+      leak += System.lineSeparator() + records.trim();
+    }
+    BufferLeakDetector detector = detecting.get();
+    if (detector != null) {
+      detector.detected.add(leak);
+      detector.leaks.add(leak);
+    } else {
+      for (BufferLeakDetector d : active) {
+        d.leaks.add(leak);
+      }
+    }
+  }
+
+  private static long pooledDirectMemory() {
+    return PooledByteBufAllocator.DEFAULT.pinnedDirectMemory();
+  }
+
+  private static long unpooledDirectMemory() {
+    return UnpooledByteBufAllocator.DEFAULT.metric().usedDirectMemory();
+  }
+
+  private static long jvmDirectMemory() {
+    return directPool != null ? directPool.getMemoryUsed() : 0;
+  }
+
+  private final List<String> leaks = Collections.synchronizedList(new ArrayList<>());
+  private final List<String> detected = Collections.synchronizedList(new ArrayList<>());
+  private long pooled;
+  private long unpooled;
+  private long jvm;
+
+  void start() {
+    pooled = pooledDirectMemory();
+    unpooled = unpooledDirectMemory();
+    jvm = jvmDirectMemory();
+    active.add(this);
+  }
+
+  /**
+   * Stop the detection and force the detection of the leaks.
+   */
+  void stop() {
+    active.remove(this);
+    if (registered && ResourceLeakDetector.isEnabled()) {
+      detect();
+    }
+    pooled = pooledDirectMemory() - pooled;
+    unpooled = unpooledDirectMemory() - unpooled;
+    jvm = jvmDirectMemory() - jvm;
+  }
+
+  private void detect() {
+    System.gc();
+    try {
+      Thread.sleep(DETECTION_DELAY);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    int allocations = ResourceLeakDetector.getLevel() == ResourceLeakDetector.Level.PARANOID ? 1 : SAMPLING_INTERVAL;
+    detecting.set(this);
+    try {
+      for (int i = 0;i < allocations;i++) {
+        Unpooled.buffer(1).release();
+      }
+    } finally {
+      detecting.remove();
+    }
+  }
+
+  /**
+   * @return the leaks reported during the test
+   */
+  List<String> leaks() {
+    synchronized (leaks) {
+      return new ArrayList<>(leaks);
+    }
+  }
+
+  /**
+   * @return the leaks detected by the forced detection at the end of the test
+   */
+  List<String> detectedLeaks() {
+    synchronized (detected) {
+      return new ArrayList<>(detected);
+    }
+  }
+
+  /**
+   * Report the direct memory growth in the metrics.
+   *
+   * @param metrics the metrics
+   */
+  void report(Metrics metrics) {
+    if (pooled != 0) {
+      metrics.put("directMemory.pooled", pooled);
+    }
+    if (unpooled != 0) {
+      metrics.put("directMemory.unpooled", unpooled);
+    }
+    if (jvm != 0) {
+      metrics.put("directMemory.jvm", jvm);
+    }
+  }
+}
@@ -0,0 +1,202 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryContext;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accounts the event bus traffic of a test: an outbound and an inbound interceptor count the messages per address,
+ * record the size of the payloads and the round-trip latency of the requests, from the request sent to the reply
+ * delivered.<p/>
+ *
+ * The replies are sent to generated addresses, they are accounted under the address of the request they reply to.
+ * The payload size is the size of the encoded body for the buffers, the strings, the byte arrays and the json
+ * values, other bodies are counted but their size is not recorded.
+ */
+class EventBusTracker {
+
+  /**
+   * The traffic of an address.
+   */
+  private static class Traffic {
+    final LongAdder sent = new LongAdder();
+    final LongAdder published = new LongAdder();
+    final LongAdder received = new LongAdder();
+    final LongAdder requests = new LongAdder();
+    final LongAdder replies = new LongAdder();
+    final LongAdder bytes = new LongAdder();
+    final LongAccumulator maxBytes = new LongAccumulator(Math::max, 0);
+    final LongAdder replyBytes = new LongAdder();
+    final HistogramImpl roundTrip = new HistogramImpl();
+  }
+
+  /**
+   * A request waiting for its reply.
+   */
+  private static class Request {
+    final Traffic traffic;
+    final long sendTime;
+    Request(Traffic traffic, long sendTime) {
+      this.traffic = traffic;
+      this.sendTime = sendTime;
+    }
+  }
+
+  private static long size(Object body) {
+    if (body == null) {
+      return 0;
+    } else if (body instanceof Buffer) {
+      return ((Buffer) body).length();
+    } else if (body instanceof String) {
+      return utf8Length((String) body);
+    } else if (body instanceof byte[]) {
+      return ((byte[]) body).length;
+    } else if (body instanceof JsonObject) {
+      return ((JsonObject) body).toBuffer().length();
+    } else if (body instanceof JsonArray) {
+      return ((JsonArray) body).toBuffer().length();
+    }
+    return -1;
+  }
+
+  private static long utf8Length(String s) {
+    long length = 0;
+    for (int i = 0;i < s.length();i++) {
+      char c = s.charAt(i);
+      if (c < 0x80) {
+        length++;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+        length += 4;
+        i++;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  private final EventBus eventBus;
+  private final Map<String, Traffic> traffics = new ConcurrentHashMap<>();
+  private final Map<String, Request> requests = new ConcurrentHashMap<>();
+  private final Handler<DeliveryContext<Object>> outboundInterceptor = this::outbound;
+  private final Handler<DeliveryContext<Object>> inboundInterceptor = this::inbound;
+
+  EventBusTracker(EventBus eventBus) {
+    this.eventBus = eventBus;
+  }
+
+  void start() {
+    eventBus.addOutboundInterceptor(outboundInterceptor);
+    eventBus.addInboundInterceptor(inboundInterceptor);
+  }
+
+  void stop() {
+    eventBus.removeOutboundInterceptor(outboundInterceptor);
+    eventBus.removeInboundInterceptor(inboundInterceptor);
+  }
+
+  private Traffic traffic(String address) {
+    Traffic traffic = traffics.get(address);
+    if (traffic == null) {
+      traffic = traffics.computeIfAbsent(address, a -> new Traffic());
+    }
+    return traffic;
+  }
+
+  private void outbound(DeliveryContext<Object> context) {
+    try {
+      Message<Object> message = context.message();
+      long size = size(context.body());
+      Request request = requests.get(message.address());
+      Traffic traffic;
+      if (request != null) {
+        traffic = request.traffic;
+        if (size >= 0) {
+          traffic.replyBytes.add(size);
+        }
+      } else {
+        traffic = traffic(message.address());
+        if (context.send()) {
+          traffic.sent.increment();
+        } else {
+          traffic.published.increment();
+        }
+        if (size >= 0) {
+          traffic.bytes.add(size);
+          traffic.maxBytes.accumulate(size);
+        }
+      }
+      String replyAddress = message.replyAddress();
+      if (replyAddress != null) {
+        traffic.requests.increment();
+        requests.put(replyAddress, new Request(traffic, System.nanoTime()));
+      }
+    } finally {
+      context.next();
+    }
+  }
+
+  private void inbound(DeliveryContext<Object> context) {
+    try {
+      String address = context.message().address();
+      Request request = requests.remove(address);
+      if (request != null) {
+        request.traffic.replies.increment();
+        request.traffic.roundTrip.record(System.nanoTime() - request.sendTime);
+      } else {
+        traffic(address).received.increment();
+      }
+    } finally {
+      context.next();
+    }
+  }
+
+  /**
+   * Report the traffic in the metrics, the metrics of an address are prefixed by {@code eventBus.<address>}.
+   *
+   * @param metrics the metrics
+   */
+  void report(Metrics metrics) {
+    traffics.forEach((address, traffic) -> {
+      String prefix = "eventBus." + address + ".";
+      putCount(metrics, prefix + "sent", traffic.sent);
+      putCount(metrics, prefix + "published", traffic.published);
+      putCount(metrics, prefix + "received", traffic.received);
+      putCount(metrics, prefix + "requests", traffic.requests);
+      putCount(metrics, prefix + "replies", traffic.replies);
+      putCount(metrics, prefix + "bytes", traffic.bytes);
+      putCount(metrics, prefix + "replyBytes", traffic.replyBytes);
+      if (traffic.maxBytes.get() > 0) {
+        metrics.put(prefix + "bytes.max", traffic.maxBytes.get());
+      }
+      HistogramImpl roundTrip = traffic.roundTrip;
+      if (roundTrip.count() > 0) {
+        metrics.put(prefix + "roundTrip.p50", roundTrip.valueAtPercentile(50));
+        metrics.put(prefix + "roundTrip.p90", roundTrip.valueAtPercentile(90));
+        metrics.put(prefix + "roundTrip.p99", roundTrip.valueAtPercentile(99));
+        metrics.put(prefix + "roundTrip.max", roundTrip.max());
+      }
+    });
+    if (!requests.isEmpty()) {
+      metrics.put("eventBus.pendingRequests", requests.size());
+    }
+  }
+
+  private static void putCount(Metrics metrics, String name, LongAdder counter) {
+    long count = counter.sum();
+    if (count > 0) {
+      metrics.put(name, count);
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.Context;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Samples the lag of an event loop: a probe task is periodically posted to the context and the delay before
+ * it is executed is recorded. A single probe is in flight at a time, so a blocked event loop is recorded as a single
+ * long lag.<p/>
+ *
+ * The busy ratio is estimated as the sum of the lags over the sampling duration, i.e the fraction of time the
+ * event loop could not execute a task as soon as it was posted. When the sampler only serves the detection of a
+ * blocked event loop, the probe is posted at a lower rate.
+ */
+class EventLoopLagSampler {
+
+  /**
+   * The default sampling interval in millis.
+   */
+  static final long INTERVAL = 10;
+
+  /**
+   * The scheduler of the test monitoring tasks.
+   */
+  static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "vert.x-unit-lag-sampler");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final Context context;
+  private final long interval;
+  private final HistogramImpl lag = new HistogramImpl();
+  private final LongAdder totalLag = new LongAdder();
+  private final AtomicBoolean pending = new AtomicBoolean();
+  private volatile boolean stopped;
+  private volatile long pendingSince = -1;
+  private volatile Thread eventLoop;
+  private ScheduledFuture<?> future;
+  private long beginTime;
+  private long endTime;
+
+  /**
+   * @param context the context of the event loop
+   * @param interval the sampling interval in millis
+   */
+  EventLoopLagSampler(Context context, long interval) {
+    this.context = context;
+    this.interval = interval;
+  }
+
+  void start() {
+    beginTime = System.nanoTime();
+    future = scheduler.scheduleAtFixedRate(this::probe, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  private void probe() {
+    if (!stopped && pending.compareAndSet(false, true)) {
+      long postTime = System.nanoTime();
+      pendingSince = postTime;
+      context.runOnContext(v -> {
+        long delay = System.nanoTime() - postTime;
+        eventLoop = Thread.currentThread();
+        lag.record(delay);
+        totalLag.add(delay);
+        pendingSince = -1;
+        pending.set(false);
+      });
+    }
+  }
+
+  void stop() {
+    stopped = true;
+    endTime = System.nanoTime();
+    future.cancel(false);
+  }
+
+  /**
+   * @return the thread of the event loop or {@code null} when no probe has been executed yet
+   */
+  Thread eventLoop() {
+    return eventLoop;
+  }
+
+  /**
+   * @return the {@link System#nanoTime()} at which the pending probe was posted or {@code -1} when no probe is pending
+   */
+  long pendingSince() {
+    return pendingSince;
+  }
+
+  /**
+   * @return the max lag in nanos
+   */
+  long maxLag() {
+    return lag.max();
+  }
+
+  /**
+   * Report the sampled lag in the metrics.
+   *
+   * @param metrics the metrics
+   */
+  void report(Metrics metrics) {
+    if (lag.count() > 0) {
+      long duration = Math.max(1, endTime - beginTime);
+      metrics.put("eventLoop.lag.samples", lag.count());
+      metrics.put("eventLoop.lag.p50", lag.valueAtPercentile(50));
+      metrics.put("eventLoop.lag.p90", lag.valueAtPercentile(90));
+      metrics.put("eventLoop.lag.p99", lag.valueAtPercentile(99));
+      metrics.put("eventLoop.lag.max", lag.max());
+      metrics.put("eventLoop.busyRatio", Math.min(1D, (double) totalLag.sum() / duration));
+    }
+  }
+}
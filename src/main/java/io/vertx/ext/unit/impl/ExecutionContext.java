@@ -15,6 +15,13 @@ public class ExecutionContext {
     this.context = context;
   }
 
+  /**
+   * @return the Vert.x context of the execution or {@code null} when the execution does not use an event loop
+   */
+  public Context context() {
+    return context;
+  }
+
   public <T> void run(Task<T> task, T value) {
     if (context != null) {
       context.runOnContext(v -> task.execute(value, this));
@@ -1,6 +1,7 @@
 package io.vertx.ext.unit.impl;
 
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.PerformanceAssertionError;
 import io.vertx.ext.unit.report.Failure;
 
 import java.io.ByteArrayInputStream;
@@ -16,6 +17,7 @@ import java.io.StringWriter;
 public class FailureImpl implements Failure {
 
   private final boolean error;
+  private final boolean performance;
   private final String message;
   private final String stackTrace;
   private final Throwable cause;
@@ -31,13 +33,19 @@ public class FailureImpl implements Failure {
       }
     }
     error = json.getBoolean("error");
+    performance = json.getBoolean("performance", false);
     message = json.getString("message");
     stackTrace = json.getString("stackTrace");
     cause = t;
   }
 
   public FailureImpl(boolean error, String message, String stackTrace, Throwable cause) {
+    this(error, false, message, stackTrace, cause);
+  }
+
+  public FailureImpl(boolean error, boolean performance, String message, String stackTrace, Throwable cause) {
     this.error = error;
+    this.performance = performance;
     this.message = message;
     this.stackTrace = stackTrace;
     this.cause = cause;
@@ -49,6 +57,7 @@ public class FailureImpl implements Failure {
     t.printStackTrace(writer);
     writer.close();
     error = t instanceof AssertionError ? false : true;
+    performance = t instanceof PerformanceAssertionError;
     stackTrace = buffer.toString();
     cause = t;
     message = t.getMessage();
@@ -59,6 +68,11 @@ public class FailureImpl implements Failure {
     return error;
   }
 
+  @Override
+  public boolean isPerformance() {
+    return performance;
+  }
+
   @Override
   public String message() {
     return message;
@@ -77,6 +91,7 @@ public class FailureImpl implements Failure {
   public JsonObject toJson() {
     JsonObject json = new JsonObject().
         put("error", error).
+        put("performance", performance).
         put("message", message).
         put("stackTrace", stackTrace);
     if (cause != null) {
@@ -0,0 +1,71 @@
+package io.vertx.ext.unit.impl;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Listens to the garbage collector notifications and attributes each pause to the running tests. The listener
+ * is registered once when the first test begins.<p/>
+ *
+ * Only the stop-the-world collections are accounted, the concurrent cycles reported by collectors such as
+ * ZGC or Shenandoah are not pauses of the application threads. The collections are classified with their action
+ * rather than the collector name, since a concurrent collector also reports pauses, e.g the remark and cleanup
+ * pauses of the G1 concurrent collector.
+ */
+class GarbageCollectionListener implements NotificationListener {
+
+  private static final boolean registered = register();
+
+  private static boolean register() {
+    GarbageCollectionListener listener = new GarbageCollectionListener();
+    boolean registered = false;
+    try {
+      for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+        if (bean instanceof NotificationEmitter) {
+          ((NotificationEmitter) bean).addNotificationListener(listener, null, null);
+          registered = true;
+        }
+      }
+    } catch (Throwable ignore) {
+      // Not supported
+    }
+    return registered;
+  }
+
+  /**
+   * Register the listener if not yet done.
+   *
+   * @return whether the garbage collections can be observed
+   */
+  static boolean init() {
+    return registered;
+  }
+
+  /**
+   * The pauses end with the {@code end of minor GC}, {@code end of major GC}, {@code end of GC pause} or
+   * {@code end of concurrent GC pause} action, the concurrent cycles end with the {@code end of GC cycle} action.
+   *
+   * @param info the collection
+   * @return whether the collection paused the application threads
+   */
+  static boolean isPause(GarbageCollectionNotificationInfo info) {
+    String action = info.getGcAction();
+    return action == null || !action.endsWith("cycle");
+  }
+
+  @Override
+  public void handleNotification(Notification notification, Object handback) {
+    if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+      GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+      if (isPause(info)) {
+        TestMonitor.garbageCollected(info.getGcInfo().getDuration());
+      }
+    }
+  }
+}
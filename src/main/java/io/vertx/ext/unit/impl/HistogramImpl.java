@@ -0,0 +1,113 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Histogram;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A log-linear histogram: values below {@code 128} have their own bucket, above each power of two is split
+ * in {@code 64} buckets.
+ */
+public class HistogramImpl implements Histogram {
+
+  private static final int SUB_BUCKET_BITS = 6;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+  private static final int BUCKETS = index(Long.MAX_VALUE) + 1;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+  private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+  static int index(long value) {
+    if (value < LINEAR_LIMIT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS;
+    return shift * SUB_BUCKETS + (int) (value >>> shift);
+  }
+
+  static long highestValue(int index) {
+    if (index < LINEAR_LIMIT) {
+      return index;
+    }
+    int shift = (index >> SUB_BUCKET_BITS) - 1;
+    long sub = index - (long) shift * SUB_BUCKETS;
+    return ((sub + 1) << shift) - 1;
+  }
+
+  @Override
+  public Histogram record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    buckets.incrementAndGet(index(value));
+    count.increment();
+    sum.add(value);
+    min.accumulate(value);
+    max.accumulate(value);
+    return this;
+  }
+
+  @Override
+  public long count() {
+    return count.sum();
+  }
+
+  @Override
+  public long min() {
+    return count() == 0 ? 0 : min.get();
+  }
+
+  @Override
+  public long max() {
+    return count() == 0 ? 0 : max.get();
+  }
+
+  @Override
+  public double mean() {
+    long n = count();
+    return n == 0 ? 0 : (double) sum.sum() / n;
+  }
+
+  @Override
+  public long valueAtPercentile(double percentile) {
+    long n = count();
+    if (n == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * n));
+    long seen = 0;
+    for (int i = 0;i < BUCKETS;i++) {
+      seen += buckets.get(i);
+      if (seen >= rank) {
+        return Math.max(min(), Math.min(highestValue(i), max()));
+      }
+    }
+    return max();
+  }
+
+  @Override
+  public JsonObject toJson() {
+    return new JsonObject().
+        put("count", count()).
+        put("min", min()).
+        put("max", max()).
+        put("mean", mean()).
+        put("p50", valueAtPercentile(50)).
+        put("p90", valueAtPercentile(90)).
+        put("p99", valueAtPercentile(99)).
+        put("p999", valueAtPercentile(99.9));
+  }
+
+  @Override
+  public String toString() {
+    return toJson().encode();
+  }
+}
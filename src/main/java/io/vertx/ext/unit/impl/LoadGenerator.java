@@ -0,0 +1,158 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Histogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * An open-loop load generator: operations are sent according to a fixed schedule that does not depend on the
+ * completion of the previous operations. The latency of an operation is measured from its intended send time
+ * so the queueing delay of the system under test is not hidden (coordinated omission).<p/>
+ *
+ * The schedule is driven by a periodic timer on the test context, each tick sends all the operations
+ * which are due.
+ */
+class LoadGenerator {
+
+  private final Context context;
+  private final String name;
+  private final long rate;
+  private final long total;
+  private final double intervalNanos;
+  private final Supplier<Future<?>> operation;
+  private final AsyncImpl async;
+  private final Metrics metrics;
+  private final Promise<Histogram> promise;
+  private final Histogram histogram = new HistogramImpl();
+  private final AtomicLong completed = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private long startTime;
+  private long timerId = -1;
+  private long sent;
+  private volatile boolean sending = true;
+  private volatile boolean stopped;
+
+  LoadGenerator(Context context, String name, long rate, long durationNanos, Supplier<Future<?>> operation,
+                AsyncImpl async, Metrics metrics, Promise<Histogram> promise) {
+    this.context = context;
+    this.name = name;
+    this.rate = rate;
+    this.total = Math.max(1, (long) (durationNanos / 1_000_000_000D * rate));
+    this.intervalNanos = 1_000_000_000D / rate;
+    this.operation = operation;
+    this.async = async;
+    this.metrics = metrics;
+    this.promise = promise;
+  }
+
+  void start() {
+    async.completable.whenComplete((v, err) -> {
+      if (err != null) {
+        // The test ended before the load
+        stopped = true;
+        promise.tryFail(err);
+        context.runOnContext(v2 -> cancelTimer());
+      }
+    });
+    context.runOnContext(v -> {
+      startTime = System.nanoTime();
+      timerId = context.owner().setPeriodic(1, id -> tick());
+      tick();
+    });
+  }
+
+  private void cancelTimer() {
+    if (timerId != -1) {
+      context.owner().cancelTimer(timerId);
+      timerId = -1;
+    }
+  }
+
+  private void tick() {
+    if (stopped) {
+      cancelTimer();
+      return;
+    }
+    long now = System.nanoTime();
+    long due = Math.min(total, 1 + (long) ((now - startTime) / intervalNanos));
+    while (sent < due) {
+      send(startTime + (long) (sent++ * intervalNanos));
+    }
+    if (sent == total) {
+      cancelTimer();
+      sending = false;
+      checkCompletion();
+    }
+  }
+
+  private void send(long intendedTime) {
+    Future<?> fut;
+    try {
+      fut = operation.get();
+    } catch (Throwable t) {
+      fut = Future.failedFuture(t);
+    }
+    if (fut == null) {
+      fut = Future.failedFuture("The operation returned a null future");
+    }
+    fut.onComplete(ar -> {
+      if (ar.succeeded()) {
+        histogram.record(System.nanoTime() - intendedTime);
+      } else {
+        failed.incrementAndGet();
+      }
+      completed.incrementAndGet();
+      checkCompletion();
+    });
+  }
+
+  private void checkCompletion() {
+    if (!sending && completed.get() == total && !stopped) {
+      synchronized (this) {
+        if (stopped) {
+          return;
+        }
+        stopped = true;
+      }
+      report(System.nanoTime() - startTime);
+      promise.complete(histogram);
+      async.complete();
+    }
+  }
+
+  private void report(long elapsedNanos) {
+    metrics.put(name + ".targetRate", rate);
+    metrics.put(name + ".achievedRate", completed.get() * 1_000_000_000D / Math.max(1, elapsedNanos));
+    metrics.put(name + ".sent", total);
+    metrics.put(name + ".failed", failed.get());
+    metrics.put(name + ".latency.p50", histogram.valueAtPercentile(50));
+    metrics.put(name + ".latency.p90", histogram.valueAtPercentile(90));
+    metrics.put(name + ".latency.p99", histogram.valueAtPercentile(99));
+    metrics.put(name + ".latency.p999", histogram.valueAtPercentile(99.9));
+    metrics.put(name + ".latency.max", histogram.max());
+  }
+
+  static Future<Histogram> generate(TestContextImpl testContext, Metrics metrics, String name, long rate,
+                                    long durationNanos, Supplier<Future<?>> operation) {
+    if (rate < 1) {
+      throw new IllegalArgumentException("Load rate must be > 0");
+    }
+    if (durationNanos <= 0) {
+      throw new IllegalArgumentException("Load duration must be > 0");
+    }
+    Context context = Vertx.currentContext();
+    if (context == null) {
+      throw new IllegalStateException("No event loop, load generation requires the test to be executed on " +
+          "a Vert.x context");
+    }
+    Promise<Histogram> promise = Promise.promise();
+    AsyncImpl async = (AsyncImpl) testContext.async();
+    new LoadGenerator(context, name, rate, durationNanos, operation, async, metrics, promise).start();
+    return promise.future();
+  }
+}
@@ -0,0 +1,103 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of a test case, shared by all the contexts of the test case execution.<p/>
+ *
+ * Counters and recorded values are aggregated with striped accumulators, so they can be updated concurrently
+ * from any thread without contention.
+ */
+public class Metrics {
+
+  private static class Recorder {
+    final LongAdder count = new LongAdder();
+    final LongAdder sum = new LongAdder();
+    final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    void record(long value) {
+      count.increment();
+      sum.add(value);
+      min.accumulate(value);
+      max.accumulate(value);
+    }
+  }
+
+  private final Map<String, Number> values = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+  /**
+   * Set the value of a metric, replacing the previous value.
+   *
+   * @param name the metric name
+   * @param value the metric value
+   */
+  public void put(String name, Number value) {
+    values.put(name, value);
+  }
+
+  /**
+   * Increment a counter.
+   *
+   * @param name the counter name
+   */
+  public void increment(String name) {
+    add(name, 1);
+  }
+
+  /**
+   * Add a value to a counter.
+   *
+   * @param name the counter name
+   * @param value the value to add
+   */
+  public void add(String name, long value) {
+    LongAdder counter = counters.get(name);
+    if (counter == null) {
+      counter = counters.computeIfAbsent(name, n -> new LongAdder());
+    }
+    counter.add(value);
+  }
+
+  /**
+   * Record a value, the values of a metric are aggregated as {@code count}, {@code sum}, {@code min} and {@code max}.
+   *
+   * @param name the metric name
+   * @param value the value
+   */
+  public void record(String name, long value) {
+    Recorder recorder = recorders.get(name);
+    if (recorder == null) {
+      recorder = recorders.computeIfAbsent(name, n -> new Recorder());
+    }
+    recorder.record(value);
+  }
+
+  /**
+   * @return a json snapshot of the metrics sorted by name
+   */
+  public JsonObject toJson() {
+    Map<String, Number> snapshot = new TreeMap<>(values);
+    counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+    recorders.forEach((name, recorder) -> {
+      long count = recorder.count.sum();
+      if (count > 0) {
+        snapshot.put(name + ".count", count);
+        snapshot.put(name + ".sum", recorder.sum.sum());
+        snapshot.put(name + ".min", recorder.min.get());
+        snapshot.put(name + ".max", recorder.max.get());
+      }
+    });
+    JsonObject json = new JsonObject();
+    snapshot.forEach(json::put);
+    return json;
+  }
+}
@@ -0,0 +1,145 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Histogram;
+import io.vertx.ext.unit.LatencyAssertion;
+import io.vertx.ext.unit.PerformanceAssertionError;
+import io.vertx.ext.unit.ThroughputAssertion;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The latency and throughput assertions of a test context.
+ */
+class PerformanceAssertions {
+
+  static class Latency implements LatencyAssertion {
+
+    private final TestContextImpl context;
+    private final Histogram histogram;
+
+    Latency(TestContextImpl context, Histogram histogram) {
+      this.context = context;
+      this.histogram = histogram;
+    }
+
+    @Override
+    public LatencyAssertion percentileBelow(double percentile, long limit, TimeUnit unit) {
+      String statistic = "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+      return check(statistic, histogram.valueAtPercentile(percentile), limit, unit);
+    }
+
+    @Override
+    public LatencyAssertion p50Below(long limit, TimeUnit unit) {
+      return check("p50", histogram.valueAtPercentile(50), limit, unit);
+    }
+
+    @Override
+    public LatencyAssertion p90Below(long limit, TimeUnit unit) {
+      return check("p90", histogram.valueAtPercentile(90), limit, unit);
+    }
+
+    @Override
+    public LatencyAssertion p99Below(long limit, TimeUnit unit) {
+      return check("p99", histogram.valueAtPercentile(99), limit, unit);
+    }
+
+    @Override
+    public LatencyAssertion p999Below(long limit, TimeUnit unit) {
+      return check("p99.9", histogram.valueAtPercentile(99.9), limit, unit);
+    }
+
+    @Override
+    public LatencyAssertion maxBelow(long limit, TimeUnit unit) {
+      return check("max", histogram.max(), limit, unit);
+    }
+
+    @Override
+    public LatencyAssertion meanBelow(long limit, TimeUnit unit) {
+      return check("mean", (long) histogram.mean(), limit, unit);
+    }
+
+    private LatencyAssertion check(String statistic, long measured, long limit, TimeUnit unit) {
+      long limitNanos = unit.toNanos(limit);
+      if (measured >= limitNanos) {
+        JsonObject measurements = histogram.toJson().
+            put("statistic", statistic).
+            put("measured", measured).
+            put("limit", limitNanos);
+        throw context.reportPerformanceError("Expected " + statistic + " latency below " + limit + " " + format(unit) +
+            " instead of " + format(measured, unit) + " " + format(unit) + ", measured " + measurements.encode(), measurements);
+      }
+      return this;
+    }
+  }
+
+  static class Throughput implements ThroughputAssertion {
+
+    private final TestContextImpl context;
+    private final long operations;
+    private final long elapsedNanos;
+
+    Throughput(TestContextImpl context, long operations, long elapsedNanos) {
+      this.context = context;
+      this.operations = operations;
+      this.elapsedNanos = elapsedNanos;
+    }
+
+    private double rate() {
+      return elapsedNanos > 0 ? operations * 1_000_000_000D / elapsedNanos : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public ThroughputAssertion atLeast(double rate) {
+      double measured = rate();
+      if (measured < rate) {
+        throw report("at least", measured, rate);
+      }
+      return this;
+    }
+
+    @Override
+    public ThroughputAssertion atMost(double rate) {
+      double measured = rate();
+      if (measured > rate) {
+        throw report("at most", measured, rate);
+      }
+      return this;
+    }
+
+    private AssertionError report(String expectation, double measured, double limit) {
+      JsonObject measurements = new JsonObject().
+          put("operations", operations).
+          put("elapsedNanos", elapsedNanos).
+          put("measured", measured).
+          put("limit", limit);
+      return context.reportPerformanceError("Expected a throughput of " + expectation + " " + format(limit) +
+          " ops/s instead of " + format(measured) + " ops/s, measured " + measurements.encode(), measurements);
+    }
+  }
+
+  private static String format(double value) {
+    return String.format(Locale.ENGLISH, "%.2f", value);
+  }
+
+  private static String format(long nanos, TimeUnit unit) {
+    return format((double) nanos / unit.toNanos(1));
+  }
+
+  private static String format(TimeUnit unit) {
+    switch (unit) {
+      case NANOSECONDS:
+        return "ns";
+      case MICROSECONDS:
+        return "us";
+      case MILLISECONDS:
+        return "ms";
+      case SECONDS:
+        return "s";
+      default:
+        return unit.name().toLowerCase(Locale.ENGLISH);
+    }
+  }
+}
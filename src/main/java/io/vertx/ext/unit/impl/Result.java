@@ -1,6 +1,7 @@
 package io.vertx.ext.unit.impl;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -8,17 +9,29 @@ import java.util.Map;
 public class Result {
 
   final long beginTime;
-  final long endTime;
+  final long beginNanos;
+  final long endNanos;
   final Throwable failure;
 
-  Result(long beginTime, long endTime, Throwable failure) {
+  /**
+   * @param beginTime the wall-clock time at which the execution began in millis
+   * @param beginNanos the {@link System#nanoTime()} at which the execution began
+   * @param endNanos the {@link System#nanoTime()} at which the execution ended
+   * @param failure the failure or {@code null}
+   */
+  Result(long beginTime, long beginNanos, long endNanos, Throwable failure) {
     this.beginTime = beginTime;
-    this.endTime = endTime;
+    this.beginNanos = beginNanos;
+    this.endNanos = endNanos;
     this.failure = failure;
   }
 
+  long durationNanos() {
+    return endNanos - beginNanos;
+  }
+
   long duration() {
-    return endTime - beginTime;
+    return TimeUnit.NANOSECONDS.toMillis(durationNanos());
   }
 
   public Throwable getFailure() {
@@ -0,0 +1,90 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.json.JsonObject;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the stacks of the threads currently executing the handlers of a test, the samples are aggregated in collapsed stacks:
+ * the frames from the root to the leaf separated by {@code ;} with the number of samples, the format of flame graph
+ * tools.<p/>
+ *
+ * The overhead is bounded: the stacks of all the threads are sampled at once with a maximum depth and the next
+ * sampling is scheduled after the interval elapsed since the end of the previous one.
+ */
+class StackSampler {
+
+  /**
+   * The maximum number of frames sampled per stack.
+   */
+  static final int MAX_DEPTH = 128;
+
+  private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+  /**
+   * @param stack the stack from the leaf to the root
+   * @return the collapsed stack
+   */
+  static String collapse(StackTraceElement[] stack) {
+    StringBuilder buffer = new StringBuilder();
+    for (int i = stack.length - 1;i >= 0;i--) {
+      if (buffer.length() > 0) {
+        buffer.append(';');
+      }
+      StackTraceElement element = stack[i];
+      buffer.append(element.getClassName()).append('.').append(element.getMethodName());
+    }
+    return buffer.toString();
+  }
+
+  private final long interval;
+  private final Collection<Thread> threads;
+  private final Map<String, Long> samples = new ConcurrentHashMap<>();
+  private volatile boolean stopped;
+  private ScheduledFuture<?> future;
+
+  /**
+   * @param interval the sampling interval in millis
+   * @param threads the threads to sample, a live view of the threads executing the handlers
+   */
+  StackSampler(long interval, Collection<Thread> threads) {
+    this.interval = interval;
+    this.threads = threads;
+  }
+
+  void start() {
+    future = EventLoopLagSampler.scheduler.scheduleWithFixedDelay(this::sample, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  private void sample() {
+    long[] ids = threads.stream().filter(Thread::isAlive).mapToLong(Thread::getId).toArray();
+    if (ids.length > 0) {
+      for (ThreadInfo info : threadMXBean.getThreadInfo(ids, MAX_DEPTH)) {
+        if (!stopped && info != null && info.getStackTrace().length > 0) {
+          samples.merge(collapse(info.getStackTrace()), 1L, Long::sum);
+        }
+      }
+    }
+  }
+
+  void stop() {
+    stopped = true;
+    future.cancel(false);
+  }
+
+  /**
+   * @return the collapsed stacks with their number of samples
+   */
+  JsonObject profile() {
+    JsonObject profile = new JsonObject();
+    samples.forEach(profile::put);
+    return profile;
+  }
+}
@@ -0,0 +1,62 @@
+package io.vertx.ext.unit.impl;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Detects a test that stopped making progress: the test signals its progress (an async counted down or completed,
+ * an assertion, a handler executed) and the detector periodically checks the progress happened during the quiet
+ * period.<p/>
+ *
+ * The progress is a {@link LongAdder}, the threads executing the test signal their progress without contending on
+ * a single counter and no increment is lost.
+ */
+class StallDetector {
+
+  private final long quietPeriod;
+  private final Runnable handler;
+  private final LongAdder progress = new LongAdder();
+  private long lastProgress;
+  private long lastProgressTime;
+  private ScheduledFuture<?> future;
+
+  /**
+   * @param quietPeriod the quiet period in millis after which a test is stalled
+   * @param handler the handler called when the test is stalled
+   */
+  StallDetector(long quietPeriod, Runnable handler) {
+    this.quietPeriod = quietPeriod;
+    this.handler = handler;
+  }
+
+  void start() {
+    lastProgress = progress.sum();
+    lastProgressTime = System.nanoTime();
+    long period = Math.max(EventLoopLagSampler.INTERVAL, quietPeriod / 4);
+    future = EventLoopLagSampler.scheduler.scheduleAtFixedRate(this::check, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Signal the test made progress.
+   */
+  void progress() {
+    progress.increment();
+  }
+
+  private void check() {
+    long now = System.nanoTime();
+    long current = progress.sum();
+    if (current != lastProgress) {
+      lastProgress = current;
+      lastProgressTime = now;
+    } else if (TimeUnit.NANOSECONDS.toMillis(now - lastProgressTime) >= quietPeriod) {
+      lastProgressTime = now;
+      handler.run();
+    }
+  }
+
+  void stop() {
+    future.cancel(false);
+  }
+}
@@ -4,6 +4,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.TestCase;
+import io.vertx.ext.unit.TestOptions;
 import io.vertx.ext.unit.report.TestCaseReport;
 import io.vertx.ext.unit.report.TestResult;
 
@@ -37,7 +38,7 @@ public class TestCaseImpl implements TestCase {
   }
 
   private TestCaseReport runner() {
-    return new TestCaseReportImpl(name, 0, 1, new HashMap<>(), null, handler, null, null);
+    return new TestCaseReportImpl(name, 0, new TestOptions(), 1, new HashMap<>(), null, handler, null, null);
   }
 
   public String name() {
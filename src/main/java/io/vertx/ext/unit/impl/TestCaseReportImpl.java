@@ -2,6 +2,7 @@ package io.vertx.ext.unit.impl;
 
 import io.vertx.core.Handler;
 import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.TestOptions;
 import io.vertx.ext.unit.report.TestResult;
 import io.vertx.ext.unit.report.TestCaseReport;
 
@@ -15,6 +16,7 @@ public class TestCaseReportImpl implements TestCaseReport {
 
   private final String name;
   private final long timeout;
+  private final TestOptions options;
   private final int repeat;
   private final Map<String, Object> attributes;
   private final Handler<TestContext> before;
@@ -25,6 +27,7 @@ public class TestCaseReportImpl implements TestCaseReport {
 
   public TestCaseReportImpl(String name,
                             long timeout,
+                            TestOptions options,
                             int repeat,
                             Map<String, Object> attributes,
                             Handler<TestContext> before,
@@ -34,6 +37,7 @@ public class TestCaseReportImpl implements TestCaseReport {
 
     this.attributes = attributes;
     this.timeout = timeout;
+    this.options = options;
     this.repeat = repeat;
     this.name = name;
     this.before = before;
@@ -44,27 +48,58 @@ public class TestCaseReportImpl implements TestCaseReport {
 
   Task<?> buildTask(Task<?> nextTask) {
     // Build task assemblies for the test case
-    Task<Result> task = (result, context) -> {
+    TestMonitor monitor = new TestMonitor(options);
+    TestEvents.TestCase event = TestEvents.AVAILABLE ? new TestEvents.TestCase() : null;
+    Task<Result> endTask = (result, context) -> {
+      Throwable failure = monitor.verify(result.failure);
+      if (event != null && event.isEnabled()) {
+        event.name = name;
+        event.succeeded = failure == null;
+        event.failure = TestEvents.describe(failure);
+        event.commit();
+      }
       if (completionHandler != null) {
-        completionHandler.handle(new TestResultImpl(name, result.beginTime, result.duration(), result.failure));
+        TestResultImpl testResult = new TestResultImpl(name, result.beginTime, result.duration(), failure, monitor.metrics().toJson());
+        testResult.setDurationNanos(result.durationNanos());
+        testResult.setAllocatedBytes(monitor.allocatedBytes());
+        testResult.setCpuTime(monitor.cpuTime());
+        testResult.setIdleRatio(monitor.idleRatio());
+        testResult.setGcCount(monitor.gcCount());
+        testResult.setGcTime(monitor.gcTime());
+        testResult.setDiagnostics(monitor.diagnostics());
+        testResult.setProfile(monitor.profile());
+        testResult.setAsyncTimeline(monitor.asyncTimeline());
+        testResult.setBeforeEachNanos(monitor.phaseNanos("beforeEach"));
+        testResult.setTestNanos(monitor.phaseNanos("test"));
+        testResult.setAfterEachNanos(monitor.phaseNanos("afterEach"));
+        completionHandler.handle(testResult);
       }
       nextTask.execute(null, context);
     };
+    Task<Result> task = (result, context) -> monitor.end(v -> endTask.execute(result, context));
     for (int count = 0;count < repeat;count++) {
-      task = runTask(task);
+      task = runTask(task, monitor);
     }
-    return task;
+    Task<Result> runTask = task;
+    Task<Result> beginTask = (result, context) -> {
+      if (event != null && event.isEnabled()) {
+        event.begin();
+      }
+      monitor.begin(context.context());
+      runTask.execute(result, context);
+    };
+    return beginTask;
   }
 
-  private Task<Result> runTask(Task<Result> next) {
-    TestContextImpl testContext = new TestContextImpl(attributes, unhandledFailureHandler);
+  private Task<Result> runTask(Task<Result> next, TestMonitor monitor) {
+    TestContextImpl testContext = new TestContextImpl(attributes, unhandledFailureHandler, monitor);
     Task<Result> afterHandler;
     if (after != null) {
-      afterHandler = new TestContextTask(testContext, after, next, timeout);
+      afterHandler = new TestContextTask(name, "afterEach", testContext, after, next, timeout);
     } else {
       afterHandler = next;
     }
-    Task<Result> testHandler = new TestContextTask(testContext, test, afterHandler, timeout);
+    Task<Result> testHandler = new TestContextTask(name, "test", testContext, test, afterHandler, timeout);
     if (before != null) {
       Function<Result, Task<Result>> tmp = result -> {
         if (result.failure != null) {
@@ -73,7 +108,7 @@ public class TestCaseReportImpl implements TestCaseReport {
           return testHandler;
         }
       };
-      return new TestContextTask(testContext, before, tmp, timeout);
+      return new TestContextTask(name, "beforeEach", testContext, before, tmp, timeout);
     } else {
       return testHandler;
     }
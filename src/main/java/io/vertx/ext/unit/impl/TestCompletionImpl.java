@@ -21,6 +21,7 @@ public class TestCompletionImpl extends CompletionImpl<Void> implements TestComp
 
   public TestCompletionImpl(Reporter... reporters) {
     Collections.addAll(this.reporters, reporters);
+    TestRun.register();
   }
 
   public void addReporter(Reporter reporter) {
@@ -35,10 +36,12 @@ public class TestCompletionImpl extends CompletionImpl<Void> implements TestComp
       reports[i] = reporters[i].reportBeginTestSuite(report.name());
     }
     report.handler(testcase -> {
+      TestRun.INSTANCE.testBegin(testcase, report.name(), testcase.name());
       for (int i = 0; i < reporters.length; i++) {
         reporters[i].reportBeginTestCase(reports[i], testcase.name());
       }
       testcase.endHandler(result -> {
+        TestRun.INSTANCE.testEnd(testcase, result);
         if (result.failed()) {
           failure.compareAndSet(null, result.failure().cause());
         }
@@ -58,7 +61,7 @@ public class TestCompletionImpl extends CompletionImpl<Void> implements TestComp
     report.endHandler(v -> {
       this.report.set(report);
       for (int i = 0; i < reporters.length; i++) {
-        reporters[i].reportEndTestSuite(reports[i]);
+        reporters[i].reportEndTestSuite(reports[i], report);
       }
       if (failure.get() != null) {
         completable.completeExceptionally(failure.get());
@@ -1,9 +1,15 @@
 package io.vertx.ext.unit.impl;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.Histogram;
+import io.vertx.ext.unit.LatencyAssertion;
+import io.vertx.ext.unit.PerformanceAssertionError;
 import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.ThroughputAssertion;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,6 +18,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -23,6 +30,7 @@ public class TestContextImpl implements TestContext {
 
   private final Map<String, Object> attributes;
   private final Handler<Throwable> unhandledFailureHandler;
+  private final TestMonitor monitor;
   private CountDownLatch completionLatch;
   private Handler<Throwable> completionHandler;
   private List<AsyncImpl> asyncs = new ArrayList<>();
@@ -30,8 +38,21 @@ public class TestContextImpl implements TestContext {
   private boolean running;
 
   public TestContextImpl(Map<String, Object> attributes, Handler<Throwable> unhandledFailureHandler) {
+    this(attributes, unhandledFailureHandler, new TestMonitor());
+  }
+
+  public TestContextImpl(Map<String, Object> attributes, Handler<Throwable> unhandledFailureHandler, TestMonitor monitor) {
     this.attributes = attributes;
     this.unhandledFailureHandler = unhandledFailureHandler;
+    this.monitor = monitor;
+  }
+
+  public TestMonitor monitor() {
+    return monitor;
+  }
+
+  public Metrics metrics() {
+    return monitor.metrics();
   }
 
   @Override
@@ -76,7 +97,7 @@ public class TestContextImpl implements TestContext {
           if (latch.await(timeout, TimeUnit.MILLISECONDS)) {
             return;
           }
-          tryFail(new TimeoutException());
+          tryFail(timeoutFailure(timeout));
         } catch (InterruptedException e) {
           Thread.currentThread().interrupt(); // Should fail as interrupted ?
         }
@@ -85,9 +106,15 @@ public class TestContextImpl implements TestContext {
       timeoutThread.setName("vert.x-unit-timeout-thread-" + threadCount.incrementAndGet());
       timeoutThread.start();
     }
-    Async async = async(1, false);
+    monitor.enter();
+    Async async = async(null, 1, false, false);
     try {
-      test.handle(TestContextImpl.this);
+      monitor.beginExecution(this);
+      try {
+        test.handle(TestContextImpl.this);
+      } finally {
+        monitor.endExecution();
+      }
       async.complete();
     } catch (Throwable t) {
       tryFail(t);
@@ -95,6 +122,11 @@ public class TestContextImpl implements TestContext {
   }
 
   public void failed(Throwable t) {
+    monitor.enter();
+    reportFailure(t);
+  }
+
+  void reportFailure(Throwable t) {
     boolean reported;
     synchronized (this) {
       reported = running && tryFail(t);
@@ -104,6 +136,34 @@ public class TestContextImpl implements TestContext {
     }
   }
 
+  private Throwable timeoutFailure(long timeout) {
+    if (!monitor.isTimeoutDiagnostics()) {
+      return new TimeoutException();
+    }
+    List<AsyncImpl> pending;
+    synchronized (this) {
+      pending = new ArrayList<>(asyncs);
+    }
+    return TimeoutDiagnostics.failure("Timed out after " + timeout + " ms", pending, monitor.threads());
+  }
+
+  /**
+   * Fail the running test, it did not make progress during the quiet period.
+   *
+   * @param quietPeriod the quiet period in millis
+   */
+  void stalled(long quietPeriod) {
+    List<AsyncImpl> pending;
+    synchronized (this) {
+      if (!running || completionResult != null) {
+        return;
+      }
+      pending = new ArrayList<>(asyncs);
+    }
+    String reason = "Stalled without progress for " + quietPeriod + " ms";
+    tryFail(TimeoutDiagnostics.failure(reason, pending, monitor.threads()));
+  }
+
   private boolean tryFail(Throwable t) {
     return tryEnd(t);
   }
@@ -137,24 +197,43 @@ public class TestContextImpl implements TestContext {
 
   @Override
   public Async async(int count) {
-    return async(count, false);
+    return async(null, count, false, true);
+  }
+
+  @Override
+  public Async async(String label) {
+    return async(label, 1, false, true);
+  }
+
+  @Override
+  public Async async(String label, int count) {
+    return async(label, count, false, true);
   }
 
   @Override
   public Async strictAsync(int count) {
-    return async(count, true);
+    return async(null, count, true, true);
   }
 
-  private Async async(int count, boolean strict) {
+  /**
+   * @param traced whether the async is recorded in the test timeline, only the asyncs created by the test are
+   */
+  private Async async(String label, int count, boolean strict, boolean traced) {
     if (count < 1) {
       throw new IllegalArgumentException("Async completion count must be > 0");
     }
+    monitor.enter();
     synchronized (this) {
       if (running) {
         if (completionResult == null) {
-          AsyncImpl async = new AsyncImpl(count, strict);
+          StackTraceElement[] creationSite = monitor.isTimeoutDiagnostics() ? TimeoutDiagnostics.creationSite() : null;
+          AsyncTimeline timeline = traced ? monitor.timeline() : null;
+          AsyncImpl async = new AsyncImpl(label, count, strict, creationSite, monitor, timeline);
           asyncs.add(async);
+          TestRun.INSTANCE.asyncCreated();
           async.completable.whenComplete((v, err) -> {
+            TestRun.INSTANCE.asyncCompleted();
+            monitor.enter();
             synchronized (TestContextImpl.this) {
               asyncs.remove(async);
             }
@@ -177,6 +256,7 @@ public class TestContextImpl implements TestContext {
 
   @Override
   public TestContext assertNull(Object expected, String message) {
+    monitor.progress();
     if (expected != null) {
       throw reportAssertionError(formatMessage(message, "Expected null"));
     }
@@ -190,6 +270,7 @@ public class TestContextImpl implements TestContext {
 
   @Override
   public TestContext assertNotNull(Object expected, String message) {
+    monitor.progress();
     if (expected == null) {
       throw reportAssertionError(formatMessage(message, "Expected not null"));
     }
@@ -198,6 +279,7 @@ public class TestContextImpl implements TestContext {
 
   @Override
   public TestContext assertTrue(boolean condition, String message) {
+    monitor.progress();
     if (!condition) {
       throw reportAssertionError(formatMessage(message, "Expected true"));
     }
@@ -215,6 +297,7 @@ public class TestContextImpl implements TestContext {
 
   @Override
   public TestContext assertFalse(boolean condition, String message) {
+    monitor.progress();
     if (condition) {
       throw reportAssertionError(formatMessage(message, "Expected false"));
     }
@@ -247,6 +330,7 @@ public class TestContextImpl implements TestContext {
 
   @Override
   public TestContext assertEquals(Object expected, Object actual, String message) {
+    monitor.progress();
     if (actual == null) {
       if (expected != null) {
         throw reportAssertionError(formatMessage(message, "Expected " + expected + " got null"));
@@ -268,6 +352,7 @@ public class TestContextImpl implements TestContext {
 
   @Override
   public TestContext assertInRange(double expected, double actual, double delta, String message) {
+    monitor.progress();
     if (Double.compare(expected, actual) != 0 && Math.abs((actual - expected)) > delta) {
       throw reportAssertionError(formatMessage(message, "Expected " + actual + " to belong to [" +
           (expected - delta) + "," + (expected + delta) + "]"));
@@ -277,6 +362,7 @@ public class TestContextImpl implements TestContext {
 
   @Override
   public TestContext assertNotEquals(Object first, Object second, String message) {
+    monitor.progress();
     if (first == null) {
       if (second == null) {
         throw reportAssertionError(formatMessage(message, "Expected null != null"));
@@ -291,6 +377,7 @@ public class TestContextImpl implements TestContext {
 
   @Override
   public TestContext verify(Handler<Void> block) {
+    monitor.progress();
     try {
       block.handle(null);
     } catch (Throwable t) {
@@ -312,7 +399,12 @@ public class TestContextImpl implements TestContext {
       if (ar.succeeded()) {
         T result = ar.result();
         try {
-          resultHandler.handle(result);
+          monitor.beginExecution(this);
+          try {
+            resultHandler.handle(result);
+          } finally {
+            monitor.endExecution();
+          }
           async.complete();
         } catch (Throwable e) {
           failed(e);
@@ -336,7 +428,12 @@ public class TestContextImpl implements TestContext {
       if (ar.failed()) {
         Throwable result = ar.cause();
         try {
-          causeHandler.handle(result);
+          monitor.beginExecution(this);
+          try {
+            causeHandler.handle(result);
+          } finally {
+            monitor.endExecution();
+          }
           async.complete();
         } catch (Throwable e) {
           failed(e);
@@ -352,6 +449,47 @@ public class TestContextImpl implements TestContext {
     return assertNotEquals(first, second, null);
   }
 
+  @Override
+  public TestContext allocationBudget(long bytes) {
+    if (bytes < 0) {
+      throw new IllegalArgumentException("Allocation budget must be >= 0");
+    }
+    monitor.allocationBudget(bytes);
+    return this;
+  }
+
+  @Override
+  public TestContext record(String name, long value) {
+    monitor.metrics().record(name, value);
+    return this;
+  }
+
+  @Override
+  public TestContext increment(String name) {
+    monitor.metrics().increment(name);
+    return this;
+  }
+
+  @Override
+  public LatencyAssertion assertLatency(Histogram histogram) {
+    return new PerformanceAssertions.Latency(this, histogram);
+  }
+
+  @Override
+  public ThroughputAssertion assertThroughput(long operations, long elapsed, TimeUnit unit) {
+    return new PerformanceAssertions.Throughput(this, operations, unit.toNanos(elapsed));
+  }
+
+  @Override
+  public ThroughputAssertion assertThroughput(long operations, long elapsedMillis) {
+    return assertThroughput(operations, elapsedMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public Future<Histogram> generateLoad(String name, long rate, long duration, TimeUnit unit, Supplier<Future<?>> operation) {
+    return LoadGenerator.generate(this, monitor.metrics(), name, rate, unit.toNanos(duration), operation);
+  }
+
   /**
    * Create and report an assertion error, the returned throwable can be thrown to change
    * the control flow.
@@ -364,6 +502,18 @@ public class TestContextImpl implements TestContext {
     return err;
   }
 
+  /**
+   * Create and report a performance assertion error, the returned throwable can be thrown to change
+   * the control flow.
+   *
+   * @return a performance assertion error to eventually throw
+   */
+  PerformanceAssertionError reportPerformanceError(String message, JsonObject measurements) {
+    PerformanceAssertionError err = new PerformanceAssertionError(message, measurements);
+    failed(err);
+    return err;
+  }
+
   private static String formatMessage(String providedMessage, String defaultMessage) {
     return providedMessage == null ? defaultMessage : (providedMessage + ". " + defaultMessage);
   }
@@ -11,19 +11,29 @@ import java.util.function.Function;
  */
 public class TestContextTask implements Task<Result> {
 
+  private final String name;
+  private final String phase;
   private final TestContextImpl testContext;
   private final Handler<TestContext> callback;
   private Function<Result, Task<Result>> next;
   private final long timeout;
 
-  public TestContextTask(TestContextImpl testContext, Handler<TestContext> callback, Task<Result> next, long timeout) {
+  /**
+   * @param name the name of the test suite or the test case
+   * @param phase the phase of the callback: before, beforeEach, test, afterEach or after
+   */
+  public TestContextTask(String name, String phase, TestContextImpl testContext, Handler<TestContext> callback, Task<Result> next, long timeout) {
+    this.name = name;
+    this.phase = phase;
     this.testContext = testContext;
     this.callback = callback;
     this.next = result -> next;
     this.timeout = timeout;
   }
 
-  public TestContextTask(TestContextImpl testContext, Handler<TestContext> callback, Function<Result, Task<Result>> next, long timeout) {
+  public TestContextTask(String name, String phase, TestContextImpl testContext, Handler<TestContext> callback, Function<Result, Task<Result>> next, long timeout) {
+    this.name = name;
+    this.phase = phase;
     this.testContext = testContext;
     this.callback = callback;
     this.next = next;
@@ -32,15 +42,33 @@ public class TestContextTask implements Task<Result> {
 
   @Override
   public void execute(Result prev, ExecutionContext context) {
+    long phaseBeginNanos = System.nanoTime();
     long beginTime;
+    long beginNanos;
     if (prev != null) {
       beginTime = prev.beginTime;
+      beginNanos = prev.beginNanos;
     } else {
       beginTime = System.currentTimeMillis();
+      beginNanos = phaseBeginNanos;
     }
+    TestEvents.TestPhase event = TestEvents.AVAILABLE ? new TestEvents.TestPhase() : null;
+    if (event != null && event.isEnabled()) {
+      event.begin();
+    }
+    testContext.monitor().enter();
     testContext.run(prev != null ? prev.failure : null, timeout, callback, failed -> {
-      long endTime = System.currentTimeMillis();
-      Result result = new Result(beginTime, endTime, failed);
+      testContext.monitor().enter();
+      long endNanos = System.nanoTime();
+      testContext.monitor().phase(phase, endNanos - phaseBeginNanos);
+      if (event != null && event.isEnabled()) {
+        event.name = name;
+        event.phase = phase;
+        event.succeeded = failed == null;
+        event.failure = TestEvents.describe(failed);
+        event.commit();
+      }
+      Result result = new Result(beginTime, beginNanos, endNanos, failed);
       context.run(next.apply(result), result);
     });
   }
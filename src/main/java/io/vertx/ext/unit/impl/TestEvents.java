@@ -0,0 +1,142 @@
+package io.vertx.ext.unit.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Java Flight Recorder events of the test execution, they can be correlated in a recording with the events of the
+ * JVM (garbage collection, locks, allocations, I/O, ...).<p/>
+ *
+ * The {@code jdk.jfr} module is optional, the events are instantiated only when it is {@link #AVAILABLE available}. An
+ * event is begun only when it is enabled, so the events cost nothing when no recording is active. The events created
+ * for each async are not instantiated at all when no recording enables them.
+ */
+final class TestEvents {
+
+  /**
+   * Whether the Java Flight Recorder is available.
+   */
+  static final boolean AVAILABLE = isAvailable();
+
+  /**
+   * The type of the {@link AsyncLifecycle} events or {@code null} when the Java Flight Recorder is not available.
+   */
+  private static final EventType ASYNC_LIFECYCLE = AVAILABLE ? EventType.getEventType(AsyncLifecycle.class) : null;
+
+  private static boolean isAvailable() {
+    try {
+      Class.forName("jdk.jfr.FlightRecorder", false, TestEvents.class.getClassLoader());
+      return true;
+    } catch (Throwable ignore) {
+      // The jdk.jfr module is not present
+      return false;
+    }
+  }
+
+  /**
+   * @return whether a recording enables the {@link AsyncLifecycle} events
+   */
+  static boolean isAsyncLifecycleEnabled() {
+    return ASYNC_LIFECYCLE != null && ASYNC_LIFECYCLE.isEnabled();
+  }
+
+  private TestEvents() {
+  }
+
+  @Name("io.vertx.unit.TestSuite")
+  @Label("Test Suite")
+  @Category({"Vert.x", "Unit"})
+  @Description("The execution of a test suite")
+  @StackTrace(false)
+  static class TestSuite extends Event {
+
+    @Label("Name")
+    String name;
+
+    @Label("Tests")
+    @Description("The number of test cases")
+    int tests;
+
+    @Label("Failure")
+    @Description("The failure of the before or after callback")
+    String failure;
+
+  }
+
+  @Name("io.vertx.unit.TestCase")
+  @Label("Test Case")
+  @Category({"Vert.x", "Unit"})
+  @Description("The execution of a test case, including the beforeEach and afterEach callbacks")
+  @StackTrace(false)
+  static class TestCase extends Event {
+
+    @Label("Name")
+    String name;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    @Label("Failure")
+    String failure;
+
+  }
+
+  @Name("io.vertx.unit.TestPhase")
+  @Label("Test Phase")
+  @Category({"Vert.x", "Unit"})
+  @Description("The execution of a test suite or test case callback")
+  @StackTrace(false)
+  static class TestPhase extends Event {
+
+    @Label("Name")
+    @Description("The name of the test suite or the test case")
+    String name;
+
+    @Label("Phase")
+    @Description("The callback: before, beforeEach, test, afterEach or after")
+    String phase;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    @Label("Failure")
+    String failure;
+
+  }
+
+  @Name("io.vertx.unit.AsyncLifecycle")
+  @Label("Async Lifecycle")
+  @Category({"Vert.x", "Unit"})
+  @Description("The lifecycle of an async, from its creation to its completion")
+  @StackTrace(false)
+  static class AsyncLifecycle extends Event {
+
+    @Label("Label")
+    @Description("The label of the async")
+    String label;
+
+    @Label("Count")
+    @Description("The initial completion count")
+    int count;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    @Label("Failure")
+    String failure;
+
+  }
+
+  /**
+   * @param failure the failure or {@code null}
+   * @return the description of the failure in an event
+   */
+  static String describe(Throwable failure) {
+    return failure != null ? failure.getClass().getName() + ": " + failure.getMessage() : null;
+  }
+}
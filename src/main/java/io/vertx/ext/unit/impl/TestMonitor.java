@@ -0,0 +1,559 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.PerformanceAssertionError;
+import io.vertx.ext.unit.TestOptions;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monitors the execution of a test case, the monitor is shared by all the contexts of the test case execution.<p/>
+ *
+ * The executions of the test handlers (event loop, worker or caller thread) are tracked so the resources their
+ * threads use while executing them can be measured: the allocated bytes and the CPU time of a thread are sampled at
+ * the beginning and at the end of each execution and the differences are summed. The JVM thread allocation and CPU
+ * time measurement are used when they are enabled, the allocation measurement is only enabled by an allocation
+ * budget.
+ */
+public class TestMonitor {
+
+  private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+  private static final com.sun.management.ThreadMXBean allocationMXBean = allocationMXBean();
+
+  private static com.sun.management.ThreadMXBean allocationMXBean() {
+    if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) threadMXBean;
+      try {
+        if (sunBean.isThreadAllocatedMemorySupported()) {
+          return sunBean;
+        }
+      } catch (UnsupportedOperationException ignore) {
+      }
+    }
+    return null;
+  }
+
+  private static boolean isAllocatedMemoryEnabled() {
+    return allocationMXBean != null && allocationMXBean.isThreadAllocatedMemoryEnabled();
+  }
+
+  /**
+   * Enable the thread allocation measurement of the JVM.
+   *
+   * @return whether the measurement is enabled
+   */
+  private static boolean enableAllocatedMemory() {
+    if (allocationMXBean != null) {
+      try {
+        if (!allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+          allocationMXBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return true;
+      } catch (UnsupportedOperationException | SecurityException ignore) {
+      }
+    }
+    return false;
+  }
+
+  private static boolean isCpuTimeEnabled() {
+    try {
+      return threadMXBean.isThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+    } catch (UnsupportedOperationException ignore) {
+      return false;
+    }
+  }
+
+  private static final Set<TestMonitor> running = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Attribute a garbage collection pause to all the running tests.
+   *
+   * @param duration the pause duration in millis
+   */
+  static void garbageCollected(long duration) {
+    for (TestMonitor monitor : running) {
+      monitor.gcCount.increment();
+      monitor.gcTime.add(duration);
+    }
+  }
+
+  private static long allocatedBytes(Thread thread) {
+    return allocationMXBean.getThreadAllocatedBytes(thread.getId());
+  }
+
+  /**
+   * The execution of the test handlers by a thread, the executions nested in an execution are not sampled.
+   */
+  private static class Execution {
+    long allocatedBytes = -1;
+    long cpuTime = -1;
+    int depth;
+  }
+
+  private final TestOptions options;
+  private final boolean trackThreads;
+  private final boolean sampleLag;
+  private final Metrics metrics = new Metrics();
+  private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+  private final Map<Thread, Execution> executions = new ConcurrentHashMap<>();
+  private final boolean measureCpuTime = isCpuTimeEnabled();
+  private volatile boolean measureAllocations = isAllocatedMemoryEnabled();
+  private final LongAdder allocatedSum = new LongAdder();
+  private final LongAdder cpuSum = new LongAdder();
+  private volatile long allocationBudget = -1;
+  private volatile long beginTime;
+  private final boolean gcSupported = GarbageCollectionListener.init();
+  private final LongAdder gcCount = new LongAdder();
+  private final LongAdder gcTime = new LongAdder();
+  private final List<String> diagnostics = Collections.synchronizedList(new ArrayList<>());
+  private final Map<String, Long> phaseTimes = new ConcurrentHashMap<>();
+  private volatile TestContextImpl current;
+  private Context context;
+  private EventLoopLagSampler lagSampler;
+  private BlockedThreadChecker blockedThreadChecker;
+  private StallDetector stallDetector;
+  private BufferLeakDetector bufferLeakDetector;
+  private List<String> bufferLeaks = Collections.emptyList();
+  private ThreadLeakDetector threadLeakDetector;
+  private List<Thread> threadLeaks = Collections.emptyList();
+  private VertxLeakDetector vertxLeakDetector;
+  private EventBusTracker eventBusTracker;
+  private TestVertxMetrics vertxMetrics;
+  private StackSampler stackSampler;
+  private AsyncTimeline timeline;
+  private JsonObject profile = new JsonObject();
+  private long allocatedBytes = -1;
+  private long cpuTime = -1;
+  private double idleRatio = -1;
+
+  public TestMonitor() {
+    this(new TestOptions());
+  }
+
+  public TestMonitor(TestOptions options) {
+    this.options = options;
+    this.trackThreads = options.getProfilingInterval() > 0 || options.isTimeoutDiagnostics() ||
+        options.getStallTimeout() > 0;
+    this.sampleLag = options.isSampleEventLoopLag() || options.getMaxEventLoopLag() > 0;
+  }
+
+  public Metrics metrics() {
+    return metrics;
+  }
+
+  /**
+   * Signal the beginning of the test case.
+   *
+   * @param context the Vert.x context executing the test case or {@code null}
+   */
+  public void begin(Context context) {
+    this.context = context;
+    beginTime = System.nanoTime();
+    running.add(this);
+    if (context != null) {
+      if (sampleLag) {
+        lagSampler = new EventLoopLagSampler(context, EventLoopLagSampler.INTERVAL);
+        lagSampler.start();
+      } else if (options.getMaxBlockedThreadTime() > 0) {
+        // Only detect the blocked event loop
+        long interval = Math.max(EventLoopLagSampler.INTERVAL, options.getMaxBlockedThreadTime() / 2);
+        lagSampler = new EventLoopLagSampler(context, interval);
+        lagSampler.start();
+      }
+      vertxMetrics = TestVertxMetrics.of(context.owner());
+      if (vertxMetrics != null) {
+        vertxMetrics.track(metrics);
+      }
+    }
+    if (context != null && options.isMeasureEventBus()) {
+      eventBusTracker = new EventBusTracker(context.owner().eventBus());
+      eventBusTracker.start();
+    }
+    if (context != null && options.isDetectVertxLeaks()) {
+      vertxLeakDetector = new VertxLeakDetector(context.owner());
+      vertxLeakDetector.start();
+    }
+    if (options.isDetectBufferLeaks()) {
+      bufferLeakDetector = new BufferLeakDetector();
+      bufferLeakDetector.start();
+    }
+    if (options.isDetectThreadLeaks()) {
+      threadLeakDetector = new ThreadLeakDetector(options.getThreadLeakGracePeriod());
+      threadLeakDetector.start();
+    }
+    if (options.getProfilingInterval() > 0) {
+      stackSampler = new StackSampler(options.getProfilingInterval(), executions.keySet());
+      stackSampler.start();
+    }
+    if (options.isTraceAsyncs()) {
+      timeline = new AsyncTimeline();
+    }
+    if (options.getStallTimeout() > 0) {
+      stallDetector = new StallDetector(options.getStallTimeout(), this::stalled);
+      stallDetector.start();
+    }
+    if (options.getMaxBlockedThreadTime() > 0) {
+      blockedThreadChecker = new BlockedThreadChecker(options.getMaxBlockedThreadTime(), lagSampler, this::blocked);
+      blockedThreadChecker.start();
+    }
+  }
+
+  /**
+   * Signal the current thread begins the execution of a handler of the test.
+   *
+   * @param context the context of the test
+   */
+  void beginExecution(TestContextImpl context) {
+    current = context;
+    Thread thread = Thread.currentThread();
+    Execution execution = executions.get(thread);
+    if (execution == null) {
+      execution = new Execution();
+      if (measureAllocations) {
+        execution.allocatedBytes = allocatedBytes(thread);
+      }
+      if (measureCpuTime) {
+        execution.cpuTime = threadMXBean.getCurrentThreadCpuTime();
+      }
+      executions.put(thread, execution);
+    } else {
+      execution.depth++;
+    }
+    if (blockedThreadChecker != null) {
+      blockedThreadChecker.beginExecution();
+    }
+  }
+
+  /**
+   * Signal the current thread ends the execution of a handler of the test.
+   */
+  void endExecution() {
+    if (blockedThreadChecker != null) {
+      blockedThreadChecker.endExecution();
+    }
+    Thread thread = Thread.currentThread();
+    Execution execution = executions.get(thread);
+    if (execution != null) {
+      if (execution.depth > 0) {
+        execution.depth--;
+      } else {
+        executions.remove(thread);
+        if (execution.allocatedBytes >= 0) {
+          allocatedSum.add(allocatedBytes(thread) - execution.allocatedBytes);
+        }
+        if (execution.cpuTime >= 0) {
+          cpuSum.add(threadMXBean.getCurrentThreadCpuTime() - execution.cpuTime);
+        }
+      }
+    }
+  }
+
+  /**
+   * Signal the test made progress.
+   */
+  void progress() {
+    if (stallDetector != null) {
+      stallDetector.progress();
+    }
+  }
+
+  private void stalled() {
+    TestContextImpl context = current;
+    if (context != null) {
+      context.stalled(options.getStallTimeout());
+    }
+  }
+
+  private void blocked(Throwable err) {
+    diagnostic(err);
+    TestContextImpl context = current;
+    if (options.isFailOnBlockedThread() && context != null) {
+      context.reportFailure(err);
+    }
+  }
+
+  /**
+   * Record a diagnostic of the test with the stack trace of the throwable.
+   *
+   * @param err the throwable describing the diagnostic
+   */
+  void diagnostic(Throwable err) {
+    StringBuilder buffer = new StringBuilder(err.getMessage());
+    for (StackTraceElement element : err.getStackTrace()) {
+      buffer.append(System.lineSeparator()).append("\tat ").append(element);
+    }
+    diagnostics.add(buffer.toString());
+  }
+
+  /**
+   * @return true when the timeout of the test is diagnosed
+   */
+  boolean isTimeoutDiagnostics() {
+    return options.isTimeoutDiagnostics();
+  }
+
+  /**
+   * @return the threads that executed the handlers of the test
+   */
+  List<Thread> threads() {
+    return new ArrayList<>(threads);
+  }
+
+  /**
+   * @return the diagnostics recorded during the test
+   */
+  public List<String> diagnostics() {
+    synchronized (diagnostics) {
+      return new ArrayList<>(diagnostics);
+    }
+  }
+
+  /**
+   * Signal the current thread executes a handler of the test.
+   */
+  public void enter() {
+    progress();
+    if (trackThreads) {
+      Thread current = Thread.currentThread();
+      if (!threads.contains(current)) {
+        threads.add(current);
+      }
+    }
+  }
+
+  /**
+   * Signal the end of the test case and take the measurements, the current thread waits for the leaked threads to
+   * terminate.
+   */
+  public void end() {
+    measure();
+    detectBufferLeaks();
+    if (threadLeakDetector != null) {
+      reportThreadLeaks(threadLeakDetector.stop());
+    }
+  }
+
+  /**
+   * Signal the end of the test case, take the measurements and call the {@code handler} once the leaks are detected.
+   * When the test case is executed by a Vert.x context, the leaks are detected without blocking the context and the
+   * {@code handler} is called on the context.
+   *
+   * @param handler the handler called once the test case has ended
+   */
+  public void end(Handler<Void> handler) {
+    measure();
+    if (context != null && (bufferLeakDetector != null || threadLeakDetector != null)) {
+      // The forced garbage collection blocks, detect the leaks on the scheduler
+      EventLoopLagSampler.scheduler.execute(() -> {
+        detectBufferLeaks();
+        if (threadLeakDetector != null) {
+          threadLeakDetector.stop(leaked -> context.runOnContext(v -> {
+            reportThreadLeaks(leaked);
+            handler.handle(null);
+          }));
+        } else {
+          context.runOnContext(handler);
+        }
+      });
+    } else {
+      detectBufferLeaks();
+      if (threadLeakDetector != null) {
+        reportThreadLeaks(threadLeakDetector.stop());
+      }
+      handler.handle(null);
+    }
+  }
+
+  private void measure() {
+    running.remove(this);
+    if (stackSampler != null) {
+      stackSampler.stop();
+      profile = stackSampler.profile();
+    }
+    if (blockedThreadChecker != null) {
+      blockedThreadChecker.stop();
+    }
+    if (stallDetector != null) {
+      stallDetector.stop();
+    }
+    if (lagSampler != null) {
+      lagSampler.stop();
+      if (sampleLag) {
+        lagSampler.report(metrics);
+      }
+    }
+    if (vertxMetrics != null) {
+      vertxMetrics.untrack(metrics);
+    }
+    if (eventBusTracker != null) {
+      eventBusTracker.stop();
+      eventBusTracker.report(metrics);
+    }
+    long wallTime = System.nanoTime() - beginTime;
+    if (measureAllocations) {
+      allocatedBytes = allocatedSum.sum();
+    }
+    if (measureCpuTime) {
+      cpuTime = cpuSum.sum();
+      idleRatio = wallTime > 0 ? Math.max(0D, 1D - (double) cpuTime / wallTime) : 0D;
+    }
+    // Detect the leaks once measured
+    if (vertxLeakDetector != null) {
+      diagnostics.addAll(vertxLeakDetector.stop());
+    }
+  }
+
+  private void detectBufferLeaks() {
+    if (bufferLeakDetector != null) {
+      bufferLeakDetector.stop();
+      bufferLeakDetector.report(metrics);
+      bufferLeaks = bufferLeakDetector.detectedLeaks();
+      diagnostics.addAll(bufferLeakDetector.leaks());
+    }
+  }
+
+  private void reportThreadLeaks(List<Thread> leaked) {
+    threadLeaks = leaked;
+    for (Thread thread : leaked) {
+      diagnostics.add(ThreadLeakDetector.describe(thread));
+    }
+  }
+
+  /**
+   * @return the collapsed stacks sampled during the test with their number of samples
+   */
+  public JsonObject profile() {
+    return profile;
+  }
+
+  /**
+   * @return the bytes allocated by the threads that executed the test handlers or {@code -1} when not supported
+   */
+  public long allocatedBytes() {
+    return allocatedBytes;
+  }
+
+  /**
+   * @return the CPU time in nanoseconds used by the threads that executed the test handlers or {@code -1} when
+   *         not supported
+   */
+  public long cpuTime() {
+    return cpuTime;
+  }
+
+  /**
+   * @return the ratio of the wall-clock time the test handlers threads did not use CPU or {@code -1} when not supported
+   */
+  public double idleRatio() {
+    return idleRatio;
+  }
+
+  /**
+   * @return the number of garbage collection pauses during the test or {@code -1} when not supported
+   */
+  public long gcCount() {
+    return gcSupported ? gcCount.sum() : -1;
+  }
+
+  /**
+   * @return the time in millis of the garbage collection pauses during the test or {@code -1} when not supported
+   */
+  public long gcTime() {
+    return gcSupported ? gcTime.sum() : -1;
+  }
+
+  /**
+   * @return the timeline recording the asyncs of the test or {@code null} when the tracing is disabled
+   */
+  AsyncTimeline timeline() {
+    return timeline;
+  }
+
+  /**
+   * @return the timeline of the asyncs created by the test and its critical path, empty when the tracing is disabled
+   */
+  public JsonObject asyncTimeline() {
+    return timeline != null ? timeline.toJson() : new JsonObject();
+  }
+
+  /**
+   * Record the execution of a phase, the times of a phase executed several times (e.g a repeated test) add up.
+   *
+   * @param phase the phase: before, beforeEach, test, afterEach or after
+   * @param nanos the phase duration in nanos
+   */
+  void phase(String phase, long nanos) {
+    phaseTimes.merge(phase, nanos, Long::sum);
+  }
+
+  /**
+   * @param phase the phase: before, beforeEach, test, afterEach or after
+   * @return the time in millis spent executing the phase or {@code -1} when it was not executed
+   */
+  public long phaseTime(String phase) {
+    long nanos = phaseNanos(phase);
+    return nanos >= 0 ? TimeUnit.NANOSECONDS.toMillis(nanos) : -1;
+  }
+
+  /**
+   * @param phase the phase: before, beforeEach, test, afterEach or after
+   * @return the time in nanos spent executing the phase or {@code -1} when it was not executed
+   */
+  public long phaseNanos(String phase) {
+    Long nanos = phaseTimes.get(phase);
+    return nanos != null ? nanos : -1;
+  }
+
+  public void allocationBudget(long bytes) {
+    allocationBudget = bytes;
+    if (!measureAllocations && enableAllocatedMemory()) {
+      measureAllocations = true;
+      // Measure the current execution from now
+      Execution execution = executions.get(Thread.currentThread());
+      if (execution != null && execution.allocatedBytes < 0) {
+        execution.allocatedBytes = allocatedBytes(Thread.currentThread());
+      }
+    }
+  }
+
+  /**
+   * Verify the measurements of the test case.
+   *
+   * @param failure the test case failure
+   * @return the test case failure or a performance failure when the test case exceeded its budget
+   */
+  public Throwable verify(Throwable failure) {
+    if (failure == null) {
+      long budget = allocationBudget;
+      if (budget >= 0 && allocatedBytes > budget) {
+        failure = new PerformanceAssertionError("Expected at most " + budget + " allocated bytes instead of " + allocatedBytes,
+            new JsonObject().put("allocatedBytes", allocatedBytes).put("allocationBudget", budget));
+      }
+    }
+    if (failure == null && !bufferLeaks.isEmpty()) {
+      failure = new AssertionError("Detected " + bufferLeaks.size() + " leaked buffer(s), see the test diagnostics");
+    }
+    if (failure == null && options.isFailOnThreadLeak() && !threadLeaks.isEmpty()) {
+      failure = new AssertionError("Detected " + ThreadLeakDetector.describe(threadLeaks));
+    }
+    if (failure == null && lagSampler != null && options.getMaxEventLoopLag() > 0) {
+      long maxLag = TimeUnit.NANOSECONDS.toMillis(lagSampler.maxLag());
+      if (maxLag > options.getMaxEventLoopLag()) {
+        failure = new PerformanceAssertionError("Expected event loop lag below " + options.getMaxEventLoopLag() +
+            " ms instead of " + maxLag + " ms", new JsonObject().put("maxEventLoopLag", maxLag));
+      }
+    }
+    return failure;
+  }
+}
@@ -1,8 +1,13 @@
 package io.vertx.ext.unit.impl;
 
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.report.Failure;
 import io.vertx.ext.unit.report.TestResult;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -10,14 +15,37 @@ public class TestResultImpl implements TestResult {
 
   private final String name;
   private final long beginTime;
-  private final long durationTime;
+  private long durationTime;
+  private long durationNanos;
   private final Failure failure;
+  private final JsonObject metrics;
+  private long allocatedBytes = -1;
+  private long cpuTime = -1;
+  private double idleRatio = -1;
+  private long gcCount = -1;
+  private long gcTime = -1;
+  private List<String> diagnostics = Collections.emptyList();
+  private JsonObject profile = new JsonObject();
+  private JsonObject asyncTimeline = new JsonObject();
+  private long beforeEachNanos = -1;
+  private long testNanos = -1;
+  private long afterEachNanos = -1;
 
-  public TestResultImpl(String name, long beginTime, long durationTime, Failure failure) {
+  public TestResultImpl(String name, long beginTime, long durationTime, Failure failure, JsonObject metrics) {
     this.name = name;
     this.beginTime = beginTime;
     this.durationTime = durationTime;
+    this.durationNanos = TimeUnit.MILLISECONDS.toNanos(durationTime);
     this.failure = failure;
+    this.metrics = metrics != null ? metrics : new JsonObject();
+  }
+
+  public TestResultImpl(String name, long beginTime, long durationTime, Failure failure) {
+    this(name, beginTime, durationTime, failure, null);
+  }
+
+  public TestResultImpl(String name, long beginTime, long durationTime, Throwable failure, JsonObject metrics) {
+    this(name, beginTime, durationTime, failure != null ? new FailureImpl(failure) : null, metrics);
   }
 
   public TestResultImpl(String name, long beginTime, long durationTime,  Throwable failure) {
@@ -39,11 +67,179 @@ public class TestResultImpl implements TestResult {
     return durationTime;
   }
 
+  @Override
+  public long durationNanos() {
+    return durationNanos;
+  }
+
+  /**
+   * Set the duration in nanos, the duration in millis is derived from it.
+   */
+  public TestResultImpl setDurationNanos(long durationNanos) {
+    this.durationNanos = durationNanos;
+    this.durationTime = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    return this;
+  }
+
   @Override
   public Failure failure() {
     return failure;
   }
 
+  @Override
+  public JsonObject metrics() {
+    return metrics;
+  }
+
+  @Override
+  public long allocatedBytes() {
+    return allocatedBytes;
+  }
+
+  public TestResultImpl setAllocatedBytes(long allocatedBytes) {
+    this.allocatedBytes = allocatedBytes;
+    return this;
+  }
+
+  @Override
+  public long cpuTime() {
+    return cpuTime;
+  }
+
+  public TestResultImpl setCpuTime(long cpuTime) {
+    this.cpuTime = cpuTime;
+    return this;
+  }
+
+  @Override
+  public double idleRatio() {
+    return idleRatio;
+  }
+
+  public TestResultImpl setIdleRatio(double idleRatio) {
+    this.idleRatio = idleRatio;
+    return this;
+  }
+
+  @Override
+  public long gcCount() {
+    return gcCount;
+  }
+
+  public TestResultImpl setGcCount(long gcCount) {
+    this.gcCount = gcCount;
+    return this;
+  }
+
+  @Override
+  public long gcTime() {
+    return gcTime;
+  }
+
+  public TestResultImpl setGcTime(long gcTime) {
+    this.gcTime = gcTime;
+    return this;
+  }
+
+  @Override
+  public List<String> diagnostics() {
+    return diagnostics;
+  }
+
+  public TestResultImpl setDiagnostics(List<String> diagnostics) {
+    this.diagnostics = diagnostics;
+    return this;
+  }
+
+  @Override
+  public JsonObject profile() {
+    return profile;
+  }
+
+  public TestResultImpl setProfile(JsonObject profile) {
+    this.profile = profile;
+    return this;
+  }
+
+  @Override
+  public JsonObject asyncTimeline() {
+    return asyncTimeline;
+  }
+
+  public TestResultImpl setAsyncTimeline(JsonObject asyncTimeline) {
+    this.asyncTimeline = asyncTimeline;
+    return this;
+  }
+
+  @Override
+  public long beforeEachTime() {
+    return beforeEachNanos >= 0 ? TimeUnit.NANOSECONDS.toMillis(beforeEachNanos) : -1;
+  }
+
+  public TestResultImpl setBeforeEachTime(long beforeEachTime) {
+    this.beforeEachNanos = beforeEachTime >= 0 ? TimeUnit.MILLISECONDS.toNanos(beforeEachTime) : -1;
+    return this;
+  }
+
+  @Override
+  public long beforeEachNanos() {
+    return beforeEachNanos;
+  }
+
+  /**
+   * Set the duration of the beforeEach callback in nanos, the duration in millis is derived from it.
+   */
+  public TestResultImpl setBeforeEachNanos(long beforeEachNanos) {
+    this.beforeEachNanos = beforeEachNanos;
+    return this;
+  }
+
+  @Override
+  public long testTime() {
+    return testNanos >= 0 ? TimeUnit.NANOSECONDS.toMillis(testNanos) : -1;
+  }
+
+  public TestResultImpl setTestTime(long testTime) {
+    this.testNanos = testTime >= 0 ? TimeUnit.MILLISECONDS.toNanos(testTime) : -1;
+    return this;
+  }
+
+  @Override
+  public long testNanos() {
+    return testNanos;
+  }
+
+  /**
+   * Set the duration of the test body in nanos, the duration in millis is derived from it.
+   */
+  public TestResultImpl setTestNanos(long testNanos) {
+    this.testNanos = testNanos;
+    return this;
+  }
+
+  @Override
+  public long afterEachTime() {
+    return afterEachNanos >= 0 ? TimeUnit.NANOSECONDS.toMillis(afterEachNanos) : -1;
+  }
+
+  public TestResultImpl setAfterEachTime(long afterEachTime) {
+    this.afterEachNanos = afterEachTime >= 0 ? TimeUnit.MILLISECONDS.toNanos(afterEachTime) : -1;
+    return this;
+  }
+
+  @Override
+  public long afterEachNanos() {
+    return afterEachNanos;
+  }
+
+  /**
+   * Set the duration of the afterEach callback in nanos, the duration in millis is derived from it.
+   */
+  public TestResultImpl setAfterEachNanos(long afterEachNanos) {
+    this.afterEachNanos = afterEachNanos;
+    return this;
+  }
+
   @Override
   public boolean succeeded() {
     return failure == null;
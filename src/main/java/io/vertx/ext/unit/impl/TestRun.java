@@ -0,0 +1,180 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.ext.unit.report.TestRunMXBean;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The live metrics of the test suites run in the JVM, exposed by the {@link TestRunMXBean}.<p/>
+ *
+ * The metrics are updated by the test execution with lock-free counters, the durations of the last
+ * {@link #DURATIONS} test cases are kept in a ring buffer and the percentiles are computed when they are read.
+ */
+class TestRun implements TestRunMXBean {
+
+  private static final Logger log = LoggerFactory.getLogger(TestRun.class);
+
+  /**
+   * The number of test case durations kept for the percentiles.
+   */
+  static final int DURATIONS = 1024;
+
+  static final TestRun INSTANCE = new TestRun();
+
+  private static volatile boolean registered;
+
+  /**
+   * Register the MBean in the platform MBean server, once.
+   */
+  static void register() {
+    if (!registered) {
+      synchronized (TestRun.class) {
+        if (!registered) {
+          registered = true;
+          try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+              server.registerMBean(INSTANCE, name);
+            }
+          } catch (Exception | LinkageError e) {
+            log.debug("Could not register the test run MBean", e);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * A running test case.
+   */
+  private static class RunningTest {
+    final String name;
+    final long beginTime = System.nanoTime();
+    RunningTest(String name) {
+      this.name = name;
+    }
+  }
+
+  private final LongAdder started = new LongAdder();
+  private final LongAdder passed = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder outstandingAsyncs = new LongAdder();
+  private final Map<Object, RunningTest> running = new ConcurrentHashMap<>();
+  private final AtomicLongArray durations = new AtomicLongArray(DURATIONS);
+  private final AtomicLong recorded = new AtomicLong();
+
+  /**
+   * Signal a test case begins.
+   *
+   * @param key the key identifying the test case execution
+   * @param suiteName the test suite name
+   * @param testName the test case name
+   */
+  void testBegin(Object key, String suiteName, String testName) {
+    started.increment();
+    running.put(key, new RunningTest(suiteName + "/" + testName));
+  }
+
+  /**
+   * Signal a test case ends.
+   *
+   * @param key the key identifying the test case execution
+   * @param result the test case result
+   */
+  void testEnd(Object key, TestResult result) {
+    running.remove(key);
+    if (result.succeeded()) {
+      passed.increment();
+    } else {
+      failed.increment();
+    }
+    long index = recorded.getAndIncrement();
+    durations.set((int) (index % DURATIONS), result.durationTime());
+  }
+
+  void asyncCreated() {
+    outstandingAsyncs.increment();
+  }
+
+  void asyncCompleted() {
+    outstandingAsyncs.decrement();
+  }
+
+  @Override
+  public long getTestsStarted() {
+    return started.sum();
+  }
+
+  @Override
+  public long getTestsPassed() {
+    return passed.sum();
+  }
+
+  @Override
+  public long getTestsFailed() {
+    return failed.sum();
+  }
+
+  @Override
+  public Map<String, Long> getRunningTests() {
+    long now = System.nanoTime();
+    Map<String, Long> tests = new TreeMap<>();
+    for (RunningTest test : running.values()) {
+      tests.merge(test.name, TimeUnit.NANOSECONDS.toMillis(now - test.beginTime), Math::max);
+    }
+    return tests;
+  }
+
+  @Override
+  public long getOutstandingAsyncs() {
+    return outstandingAsyncs.sum();
+  }
+
+  private long durationAtPercentile(double percentile) {
+    int count = (int) Math.min(recorded.get(), DURATIONS);
+    if (count == 0) {
+      return 0;
+    }
+    long[] values = new long[count];
+    for (int i = 0;i < count;i++) {
+      values[i] = durations.get(i);
+    }
+    Arrays.sort(values);
+    int rank = (int) Math.ceil(percentile / 100 * count);
+    return values[Math.max(0, rank - 1)];
+  }
+
+  @Override
+  public long getDurationP50() {
+    return durationAtPercentile(50);
+  }
+
+  @Override
+  public long getDurationP90() {
+    return durationAtPercentile(90);
+  }
+
+  @Override
+  public long getDurationP99() {
+    return durationAtPercentile(99);
+  }
+
+  @Override
+  public long getDurationMax() {
+    return durationAtPercentile(100);
+  }
+}
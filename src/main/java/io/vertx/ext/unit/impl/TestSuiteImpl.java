@@ -7,6 +7,7 @@ import io.vertx.ext.unit.TestOptions;
 import io.vertx.ext.unit.TestSuite;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.report.Reporter;
+import io.vertx.ext.unit.report.impl.DefaultReporterFactory;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -137,12 +138,13 @@ public class TestSuiteImpl implements TestSuite {
 
   @Override
   public TestCompletion run(Vertx vertx, TestOptions options) {
-    Reporter[] reporters = options.getReporters().stream().map(reportOptions -> Reporter.reporter(vertx, reportOptions)).toArray(Reporter[]::new);
+    Reporter[] reporters = DefaultReporterFactory.reporters(vertx, options.getReporters());
     TestCompletionImpl completion = new TestCompletionImpl(reporters);
     TestSuiteRunner runner = runner().
         setVertx(vertx).
         setTimeout(options.getTimeout()).
         setUseEventLoop(options.isUseEventLoop()).
+        setOptions(options).
         setReporter(completion);
     if (defaultRunner != null) {
       defaultRunner.handle(runner);
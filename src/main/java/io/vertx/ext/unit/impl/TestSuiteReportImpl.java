@@ -3,12 +3,16 @@ package io.vertx.ext.unit.impl;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.unit.report.TestSuiteReport;
 import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.TestOptions;
 import io.vertx.ext.unit.report.TestCaseReport;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -16,22 +20,27 @@ import java.util.Map;
 */
 class TestSuiteReportImpl implements TestSuiteReport {
 
+  private static final Logger log = LoggerFactory.getLogger(TestSuiteReportImpl.class);
+
   private final String name;
   private final long timeout;
+  private final TestOptions options;
   private final Handler<TestContext> before;
   private final Handler<TestContext> after;
   private final Handler<TestContext> beforeEach;
   private final Handler<TestContext> afterEach;
   private final TestCaseImpl[] tests;
+  private final TestMonitor monitor = new TestMonitor();
   private Handler<Void> endHandler;
   private Handler<Throwable> exceptionHandler;
   private Handler<TestCaseReport> handler;
 
-  TestSuiteReportImpl(String name, long timeout, Handler<TestContext> before, Handler<TestContext> after,
+  TestSuiteReportImpl(String name, long timeout, TestOptions options, Handler<TestContext> before, Handler<TestContext> after,
                       Handler<TestContext> beforeEach, Handler<TestContext> afterEach,
                       TestCaseImpl[] tests) {
     this.name = name;
     this.timeout = timeout;
+    this.options = options;
     this.before = before;
     this.after = after;
     this.beforeEach = beforeEach;
@@ -44,6 +53,16 @@ class TestSuiteReportImpl implements TestSuiteReport {
     return name;
   }
 
+  @Override
+  public long beforeTime() {
+    return monitor.phaseTime("before");
+  }
+
+  @Override
+  public long afterTime() {
+    return monitor.phaseTime("after");
+  }
+
   @Override
   public TestSuiteReport exceptionHandler(Handler<Throwable> handler) {
     exceptionHandler = handler;
@@ -82,7 +101,7 @@ class TestSuiteReportImpl implements TestSuiteReport {
       TestCaseImpl test = tests[index];
       Task<?> nextTask = buildTestCasesTasks(attributes, tests, index + 1, endTask);
       return (v, context) -> {
-        TestCaseReportImpl testReport = new TestCaseReportImpl(test.name, timeout, test.repeat, new HashMap<>(attributes), beforeEach, test.handler, afterEach, exceptionHandler);
+        TestCaseReportImpl testReport = new TestCaseReportImpl(test.name, timeout, options, test.repeat, new HashMap<>(attributes), beforeEach, test.handler, afterEach, exceptionHandler);
         if (handler != null) {
           handler.handle(testReport);
         }
@@ -91,7 +110,7 @@ class TestSuiteReportImpl implements TestSuiteReport {
       };
     } else {
       if (after != null) {
-        return new TestContextTask(new TestContextImpl(new HashMap<>(attributes), exceptionHandler), after, endTask, 0);
+        return new TestContextTask(name, "after", new TestContextImpl(new HashMap<>(attributes), exceptionHandler, monitor), after, endTask, 0);
       } else {
         return endTask;
       }
@@ -99,17 +118,76 @@ class TestSuiteReportImpl implements TestSuiteReport {
   }
 
   private Task<?> buildTask() {
+    if (options.isDetectThreadLeaks()) {
+      ThreadLeakDetector threadLeakDetector = new ThreadLeakDetector(options.getThreadLeakGracePeriod());
+      Task<?> task = buildTask(threadLeakDetector);
+      return (result, context) -> {
+        threadLeakDetector.start();
+        task.execute(null, context);
+      };
+    } else {
+      return buildTask(null);
+    }
+  }
+
+  /**
+   * Check the threads leaked by the test suite, when the test suite is executed by a Vert.x context the leaked
+   * threads are waited for without blocking the context and the {@code handler} is called on the context.
+   */
+  private void checkThreadLeaks(ThreadLeakDetector threadLeakDetector, Context context, Handler<Void> handler) {
+    if (context != null) {
+      threadLeakDetector.stop(leaked -> context.runOnContext(v -> {
+        reportThreadLeaks(leaked);
+        handler.handle(null);
+      }));
+    } else {
+      reportThreadLeaks(threadLeakDetector.stop());
+      handler.handle(null);
+    }
+  }
+
+  private void reportThreadLeaks(List<Thread> leaked) {
+    if (!leaked.isEmpty()) {
+      String msg = "Test suite " + name + " " + ThreadLeakDetector.describe(leaked);
+      if (options.isFailOnThreadLeak() && exceptionHandler != null) {
+        exceptionHandler.handle(new AssertionError(msg));
+      } else {
+        StringBuilder buffer = new StringBuilder(msg);
+        for (Thread thread : leaked) {
+          buffer.append(System.lineSeparator()).append(ThreadLeakDetector.describe(thread));
+        }
+        log.warn(buffer.toString());
+      }
+    }
+  }
+
+  private Task<?> buildTask(ThreadLeakDetector threadLeakDetector) {
+    TestEvents.TestSuite event = TestEvents.AVAILABLE ? new TestEvents.TestSuite() : null;
     Task<Result> endTask = (result, context) -> {
       if (result != null && result.failure != null && exceptionHandler != null) {
         exceptionHandler.handle(result.failure);
       }
-      if (endHandler != null) {
-        endHandler.handle(null);
+      Handler<Void> end = v -> {
+        if (event != null && event.isEnabled()) {
+          event.name = name;
+          event.tests = tests.length;
+          event.failure = TestEvents.describe(result != null ? result.failure : null);
+          event.commit();
+        }
+        if (endHandler != null) {
+          endHandler.handle(null);
+        }
+      };
+      if (threadLeakDetector != null) {
+        checkThreadLeaks(threadLeakDetector, context.context(), end);
+      } else {
+        end.handle(null);
       }
     };
+    Task<?> task;
     if (before != null) {
       HashMap<String, Object> attributes = new HashMap<>();
-      return new TestContextTask(new TestContextImpl(attributes, exceptionHandler), before, result -> {
+      task = new TestContextTask(name, "before", new TestContextImpl(attributes, exceptionHandler, monitor), before, result -> {
         if (result.failure == null) {
           Task<?> runTask = buildTestCasesTasks(attributes, tests, 0, endTask);
           return (result_, context) -> runTask.execute(null, context);
@@ -118,8 +196,14 @@ class TestSuiteReportImpl implements TestSuiteReport {
         }
       }, 0);
     } else {
-      return buildTestCasesTasks(new HashMap<>(), tests, 0, endTask);
+      task = buildTestCasesTasks(new HashMap<>(), tests, 0, endTask);
     }
+    return (result, context) -> {
+      if (event != null && event.isEnabled()) {
+        event.begin();
+      }
+      task.execute(null, context);
+    };
   }
 
   // For unit testing
@@ -3,6 +3,7 @@ package io.vertx.ext.unit.impl;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.TestOptions;
 import io.vertx.ext.unit.report.TestSuiteReport;
 
 import java.util.List;
@@ -24,6 +25,7 @@ public class TestSuiteRunner {
   private Handler<TestSuiteReport> handler;
   private long timeout;
   private Boolean useEventLoop;
+  private TestOptions options = new TestOptions();
 
   public TestSuiteRunner(String name, Handler<TestContext> before, Handler<TestContext> after, Handler<TestContext> beforeEach,
                          Handler<TestContext> afterEach, List<TestCaseImpl> tests) {
@@ -85,6 +87,25 @@ public class TestSuiteRunner {
     return this;
   }
 
+  /**
+   * @return the options monitoring the test cases execution
+   */
+  public TestOptions getOptions() {
+    return options;
+  }
+
+  /**
+   * Set the options monitoring the test cases execution, the {@code timeout} and {@code useEventLoop} are
+   * configured with their own setters.
+   *
+   * @param options the options
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TestSuiteRunner setOptions(TestOptions options) {
+    this.options = options;
+    return this;
+  }
+
   public Handler<TestSuiteReport> getReporter() {
     return handler;
   }
@@ -104,7 +125,7 @@ public class TestSuiteRunner {
    * Run the testsuite with the current {@code timeout}, {@code vertx} and {@code reporter}.
    */
   public void run() {
-    TestSuiteReportImpl runner = new TestSuiteReportImpl(name, timeout, before, after, beforeEach,
+    TestSuiteReportImpl runner = new TestSuiteReportImpl(name, timeout, options, before, after, beforeEach,
         afterEach, tests.toArray(new TestCaseImpl[tests.size()]));
     handler.handle(runner);
     if (vertx != null) {
@@ -0,0 +1,174 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.net.NetClientOptions;
+import io.vertx.core.net.NetServerOptions;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.EventBusMetrics;
+import io.vertx.core.spi.metrics.HttpClientMetrics;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+import io.vertx.core.spi.metrics.TCPMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The metrics of a {@code Vertx} instance built with the {@link io.vertx.ext.unit.TestMetricsFactory}, the monitor
+ * of a test looks up the metrics of the {@code Vertx} instance running the test.<p/>
+ *
+ * The network usage of the TCP and HTTP clients and servers, the connections opened and the bytes read and written,
+ * is attributed to the tests running when it happens: the monitor of a test tracks the network usage of the
+ * {@code Vertx} instance while the test runs.
+ */
+public class TestVertxMetrics implements VertxMetrics {
+
+  private static final Map<Vertx, TestVertxMetrics> instances = Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * @param vertx the vertx instance
+   * @return the metrics of the {@code vertx} instance or {@code null} when it was not built with the test metrics
+   */
+  static TestVertxMetrics of(Vertx vertx) {
+    return instances.get(vertx);
+  }
+
+  /**
+   * An event bus consumer registration.
+   */
+  static class Registration {
+    final String address;
+    final StackTraceElement[] stackTrace;
+    Registration(String address) {
+      this.address = address;
+      this.stackTrace = new Throwable().getStackTrace();
+    }
+  }
+
+  /**
+   * The network usage of a client or a server, the socket metric is not needed and the generic types of the SPI
+   * are not used.
+   */
+  @SuppressWarnings("rawtypes")
+  private class NetworkUsage implements TCPMetrics {
+    final String connections;
+    final String bytesRead;
+    final String bytesWritten;
+    NetworkUsage(String prefix) {
+      this.connections = prefix + ".connections";
+      this.bytesRead = prefix + ".bytesRead";
+      this.bytesWritten = prefix + ".bytesWritten";
+    }
+    @Override
+    public Object connected(SocketAddress remoteAddress, String remoteName) {
+      add(connections, 1);
+      return null;
+    }
+    @Override
+    public void bytesRead(Object socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
+      add(bytesRead, numberOfBytes);
+    }
+    @Override
+    public void bytesWritten(Object socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
+      add(bytesWritten, numberOfBytes);
+    }
+  }
+
+  @SuppressWarnings("rawtypes")
+  private class HttpClientUsage extends NetworkUsage implements HttpClientMetrics {
+    HttpClientUsage() {
+      super("http.client");
+    }
+  }
+
+  @SuppressWarnings("rawtypes")
+  private class HttpServerUsage extends NetworkUsage implements HttpServerMetrics {
+    HttpServerUsage() {
+      super("http.server");
+    }
+  }
+
+  private final Set<Registration> registrations = ConcurrentHashMap.newKeySet();
+  private final Set<Metrics> tracked = ConcurrentHashMap.newKeySet();
+
+  @Override
+  public void vertxCreated(Vertx vertx) {
+    instances.put(vertx, this);
+  }
+
+  @Override
+  public EventBusMetrics<?> createEventBusMetrics() {
+    return new EventBusMetrics<Registration>() {
+      @Override
+      public Registration handlerRegistered(String address) {
+        Registration registration = new Registration(address);
+        registrations.add(registration);
+        return registration;
+      }
+      @Override
+      public void handlerUnregistered(Registration registration) {
+        if (registration != null) {
+          registrations.remove(registration);
+        }
+      }
+    };
+  }
+
+  @Override
+  public TCPMetrics<?> createNetServerMetrics(NetServerOptions options, SocketAddress localAddress) {
+    return new NetworkUsage("net.server");
+  }
+
+  @Override
+  public TCPMetrics<?> createNetClientMetrics(NetClientOptions options) {
+    return new NetworkUsage("net.client");
+  }
+
+  @Override
+  public HttpServerMetrics<?, ?, ?> createHttpServerMetrics(HttpServerOptions options, SocketAddress localAddress) {
+    return new HttpServerUsage();
+  }
+
+  @Override
+  public HttpClientMetrics<?, ?, ?> createHttpClientMetrics(HttpClientOptions options) {
+    return new HttpClientUsage();
+  }
+
+  private void add(String name, long value) {
+    for (Metrics metrics : tracked) {
+      metrics.add(name, value);
+    }
+  }
+
+  /**
+   * Attribute the network usage to the metrics of a test until it is untracked.
+   *
+   * @param metrics the test metrics
+   */
+  void track(Metrics metrics) {
+    tracked.add(metrics);
+  }
+
+  /**
+   * Stop attributing the network usage to the metrics of a test.
+   *
+   * @param metrics the test metrics
+   */
+  void untrack(Metrics metrics) {
+    tracked.remove(metrics);
+  }
+
+  /**
+   * @return the event bus consumers currently registered
+   */
+  List<Registration> registrations() {
+    return new ArrayList<>(registrations);
+  }
+}
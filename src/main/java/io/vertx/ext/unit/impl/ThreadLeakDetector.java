@@ -0,0 +1,137 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.Handler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Detects the threads leaked by a test or a test suite: the live threads are snapshot at the beginning and the
+ * non daemon threads started since then and still alive at the end are leaked. The threads are given a grace period
+ * to terminate, since the resources owning them are often closed asynchronously, e.g a {@code Vertx} instance.
+ */
+public class ThreadLeakDetector {
+
+  private static Thread[] liveThreads() {
+    ThreadGroup root = Thread.currentThread().getThreadGroup();
+    while (root.getParent() != null) {
+      root = root.getParent();
+    }
+    Thread[] threads = new Thread[root.activeCount() + 16];
+    int count;
+    while ((count = root.enumerate(threads, true)) == threads.length) {
+      threads = new Thread[threads.length * 2];
+    }
+    return Arrays.copyOf(threads, count);
+  }
+
+  /**
+   * Describe a leaked thread with its name, its group and its stack trace.
+   *
+   * @param thread the leaked thread
+   * @return the description
+   */
+  public static String describe(Thread thread) {
+    StringBuilder buffer = new StringBuilder("Thread ").append(thread.getName());
+    ThreadGroup group = thread.getThreadGroup();
+    if (group != null) {
+      buffer.append(" of group ").append(group.getName());
+    }
+    buffer.append(" has been leaked");
+    for (StackTraceElement element : thread.getStackTrace()) {
+      buffer.append(System.lineSeparator()).append("\tat ").append(element);
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Describe a list of leaked threads with their names.
+   *
+   * @param threads the leaked threads
+   * @return the description
+   */
+  public static String describe(List<Thread> threads) {
+    return threads.size() + " leaked thread(s): " + threads.stream().map(Thread::getName).collect(Collectors.joining(", "));
+  }
+
+  private final long gracePeriod;
+  private Set<Thread> threads = Collections.emptySet();
+
+  /**
+   * @param gracePeriod the time in millis given to the new threads to terminate
+   */
+  public ThreadLeakDetector(long gracePeriod) {
+    this.gracePeriod = gracePeriod;
+  }
+
+  /**
+   * Snapshot the live threads.
+   */
+  public void start() {
+    threads = Collections.newSetFromMap(new IdentityHashMap<>());
+    threads.addAll(Arrays.asList(liveThreads()));
+  }
+
+  /**
+   * Wait for the threads started since {@link #start()} to terminate, at most the grace period.
+   *
+   * @return the non daemon threads still alive
+   */
+  public List<Thread> stop() {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(gracePeriod);
+    List<Thread> leaked = new ArrayList<>();
+    for (Thread thread : liveThreads()) {
+      if (!threads.contains(thread) && !thread.isDaemon() && thread != Thread.currentThread()) {
+        long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remaining > 0) {
+          try {
+            thread.join(remaining);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deadline = System.nanoTime();
+          }
+        }
+        if (thread.isAlive()) {
+          leaked.add(thread);
+        }
+      }
+    }
+    threads = Collections.emptySet();
+    return leaked;
+  }
+
+  /**
+   * Wait for the threads started since {@link #start()} to terminate, at most the grace period, without blocking the
+   * current thread: the threads are polled on the test monitoring scheduler.
+   *
+   * @param handler the handler called with the non daemon threads still alive, on the scheduler thread
+   */
+  public void stop(Handler<List<Thread>> handler) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(gracePeriod);
+    List<Thread> started = new ArrayList<>();
+    for (Thread thread : liveThreads()) {
+      if (!threads.contains(thread) && !thread.isDaemon() && thread != Thread.currentThread()) {
+        started.add(thread);
+      }
+    }
+    threads = Collections.emptySet();
+    poll(started, deadline, handler);
+  }
+
+  private void poll(List<Thread> started, long deadline, Handler<List<Thread>> handler) {
+    started.removeIf(thread -> !thread.isAlive());
+    long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    if (started.isEmpty() || remaining <= 0) {
+      handler.handle(started);
+    } else {
+      long delay = Math.min(EventLoopLagSampler.INTERVAL, remaining);
+      EventLoopLagSampler.scheduler.schedule(() -> poll(started, deadline, handler), delay, TimeUnit.MILLISECONDS);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.VertxException;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Describes why a test timed out or stalled: the asyncs still pending with the site that created them and the stack
+ * of the threads that executed the handlers of the test.<p/>
+ *
+ * The creation sites are captured with a {@link StackWalker} limited to {@link #MAX_DEPTH} frames, the frames of
+ * Vert.x Unit are skipped so the site starts at the test code.
+ */
+class TimeoutDiagnostics {
+
+  /**
+   * The maximum number of frames of a creation site.
+   */
+  static final int MAX_DEPTH = 16;
+
+  private static final String PACKAGE_PREFIX = "io.vertx.ext.unit.impl.";
+  private static final StackWalker walker = StackWalker.getInstance();
+  private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+  /**
+   * @return the stack of the caller, starting at the first frame outside of Vert.x Unit
+   */
+  static StackTraceElement[] creationSite() {
+    return walker.walk(frames -> frames.
+        dropWhile(frame -> frame.getClassName().startsWith(PACKAGE_PREFIX)).
+        limit(MAX_DEPTH).
+        map(StackWalker.StackFrame::toStackTraceElement).
+        toArray(StackTraceElement[]::new));
+  }
+
+  /**
+   * Create the failure of a test that timed out or stalled.
+   *
+   * @param reason the reason of the failure
+   * @param asyncs the pending asyncs
+   * @param threads the threads that executed the handlers of the test
+   * @return the failure with a suppressed exception per async and per thread
+   */
+  static TimeoutException failure(String reason, List<AsyncImpl> asyncs, Collection<Thread> threads) {
+    TimeoutException failure = new TimeoutException(reason + " with " + asyncs.size() + " pending async(s)");
+    for (AsyncImpl async : asyncs) {
+      String name = async.label() != null ? "Async " + async.label() : "Async";
+      VertxException err = new VertxException(name + " created with count " + async.initialCount() + " is pending " +
+          "with count " + async.count());
+      StackTraceElement[] creationSite = async.creationSite();
+      err.setStackTrace(creationSite != null ? creationSite : new StackTraceElement[0]);
+      failure.addSuppressed(err);
+    }
+    long[] ids = threads.stream().filter(Thread::isAlive).mapToLong(Thread::getId).toArray();
+    if (ids.length > 0) {
+      ThreadInfo[] infos = threadMXBean.getThreadInfo(ids, threadMXBean.isObjectMonitorUsageSupported(),
+          threadMXBean.isSynchronizerUsageSupported());
+      for (ThreadInfo info : infos) {
+        if (info != null) {
+          VertxException err = new VertxException(describe(info));
+          err.setStackTrace(info.getStackTrace());
+          failure.addSuppressed(err);
+        }
+      }
+    }
+    return failure;
+  }
+
+  private static String describe(ThreadInfo info) {
+    StringBuilder buffer = new StringBuilder("Thread ").append(info.getThreadName()).append(" is ")
+        .append(info.getThreadState());
+    LockInfo lock = info.getLockInfo();
+    if (lock != null) {
+      buffer.append(" on ").append(lock);
+      if (info.getLockOwnerName() != null) {
+        buffer.append(" owned by ").append(info.getLockOwnerName());
+      }
+    }
+    return buffer.toString();
+  }
+}
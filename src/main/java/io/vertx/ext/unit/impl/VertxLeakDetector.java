@@ -0,0 +1,85 @@
+package io.vertx.ext.unit.impl;
+
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Detects the timers and the event bus consumers leaked by a test on the {@code Vertx} instance running it.<p/>
+ *
+ * Vert.x allocates the timer ids sequentially, the ids allocated while the test runs are bounded by a timer
+ * created at the beginning and at the end of the test. Vert.x exposes a pending timer only through its cancellation,
+ * so the timers of the test still pending at the end are cancelled.<p/>
+ *
+ * The event bus consumers are tracked by the {@link TestVertxMetrics} when the {@code Vertx} instance was built with
+ * the {@link io.vertx.ext.unit.TestMetricsFactory}, the consumers registered since the beginning of the test and still
+ * registered at the end are reported.
+ */
+class VertxLeakDetector {
+
+  /**
+   * The delay in millis of the timers bounding the timer ids, they are cancelled immediately.
+   */
+  private static final long BOUNDARY_DELAY = 24 * 60 * 60 * 1000L;
+
+  private static long nextTimerId(Vertx vertx) {
+    long id = vertx.setTimer(BOUNDARY_DELAY, v -> {});
+    vertx.cancelTimer(id);
+    return id;
+  }
+
+  private static String describe(TestVertxMetrics.Registration registration) {
+    StringBuilder buffer = new StringBuilder("Event bus consumer of address ").append(registration.address)
+        .append(" has been leaked");
+    for (StackTraceElement element : registration.stackTrace) {
+      buffer.append(System.lineSeparator()).append("\tat ").append(element);
+    }
+    return buffer.toString();
+  }
+
+  private final Vertx vertx;
+  private final TestVertxMetrics metrics;
+  private long firstTimerId;
+  private Set<TestVertxMetrics.Registration> registrations = Collections.emptySet();
+
+  VertxLeakDetector(Vertx vertx) {
+    this.vertx = vertx;
+    this.metrics = TestVertxMetrics.of(vertx);
+  }
+
+  void start() {
+    firstTimerId = nextTimerId(vertx);
+    if (metrics != null) {
+      registrations = Collections.newSetFromMap(new IdentityHashMap<>());
+      registrations.addAll(metrics.registrations());
+    }
+  }
+
+  /**
+   * Stop the detection and cancel the leaked timers.
+   *
+   * @return the description of the leaked timers and event bus consumers
+   */
+  List<String> stop() {
+    List<String> leaks = new ArrayList<>();
+    long lastTimerId = nextTimerId(vertx);
+    for (long id = firstTimerId + 1;id < lastTimerId;id++) {
+      if (vertx.cancelTimer(id)) {
+        leaks.add("Timer " + id + " has been leaked and cancelled");
+      }
+    }
+    if (metrics != null) {
+      for (TestVertxMetrics.Registration registration : metrics.registrations()) {
+        if (!registrations.contains(registration)) {
+          leaks.add(describe(registration));
+        }
+      }
+    }
+    registrations = Collections.emptySet();
+    return leaks;
+  }
+}
@@ -0,0 +1,29 @@
+package io.vertx.ext.unit.junit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotates a test class or a test method to detect the threads it leaks: the non daemon threads started by the test
+ * and still alive after the grace period are reported. When a test class is annotated, the threads leaked by each
+ * test method and by the whole class are detected.<p/>
+ *
+ * The detection is performed by the {@link VertxUnitRunner} or by the {@link RunTestOnContext} rule.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface DetectThreadLeaks {
+
+  /**
+   * @return true to fail the test leaking threads, otherwise the leaked threads are logged
+   */
+  boolean fail() default false;
+
+  /**
+   * @return the time in milliseconds given to the new threads to terminate
+   */
+  long gracePeriod() default 1000;
+
+}
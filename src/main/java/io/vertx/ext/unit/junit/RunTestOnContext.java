@@ -110,6 +110,14 @@ public class RunTestOnContext implements TestRule {
 
   @Override
   public Statement apply(Statement base, Description description) {
+    DetectThreadLeaks detectThreadLeaks = description.getAnnotation(DetectThreadLeaks.class);
+    if (detectThreadLeaks == null && description.getTestClass() != null) {
+      detectThreadLeaks = description.getTestClass().getAnnotation(DetectThreadLeaks.class);
+    }
+    return ThreadLeakStatement.apply(onContext(base, description), detectThreadLeaks, description);
+  }
+
+  private Statement onContext(Statement base, Description description) {
     return new Statement() {
       @Override
       public void evaluate() throws Throwable {
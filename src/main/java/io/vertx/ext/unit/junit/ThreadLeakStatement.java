@@ -0,0 +1,71 @@
+package io.vertx.ext.unit.junit;
+
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.ext.unit.impl.ThreadLeakDetector;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Detects the threads leaked by a statement. A description is checked once, so the runner and a rule can both
+ * apply the detection to the same test.
+ */
+class ThreadLeakStatement extends Statement {
+
+  private static final ThreadLocal<Set<Description>> checking = ThreadLocal.withInitial(HashSet::new);
+
+  /**
+   * Apply the detection to the {@code base} statement when the test is annotated with {@link DetectThreadLeaks}.
+   *
+   * @param base the statement
+   * @param annotation the annotation or {@code null}
+   * @param description the description of the test or the test class
+   * @return the statement
+   */
+  static Statement apply(Statement base, DetectThreadLeaks annotation, Description description) {
+    return annotation != null ? new ThreadLeakStatement(base, annotation, description) : base;
+  }
+
+  private final Statement base;
+  private final DetectThreadLeaks annotation;
+  private final Description description;
+
+  private ThreadLeakStatement(Statement base, DetectThreadLeaks annotation, Description description) {
+    this.base = base;
+    this.annotation = annotation;
+    this.description = description;
+  }
+
+  @Override
+  public void evaluate() throws Throwable {
+    Set<Description> descriptions = checking.get();
+    if (!descriptions.add(description)) {
+      base.evaluate();
+      return;
+    }
+    ThreadLeakDetector detector = new ThreadLeakDetector(annotation.gracePeriod());
+    List<Thread> leaked;
+    try {
+      detector.start();
+      base.evaluate();
+    } finally {
+      descriptions.remove(description);
+      leaked = detector.stop();
+      if (!leaked.isEmpty()) {
+        Logger logger = LoggerFactory.getLogger(description.getTestClass());
+        StringBuilder buffer = new StringBuilder(description.getDisplayName()).append(" ").append(ThreadLeakDetector.describe(leaked));
+        for (Thread thread : leaked) {
+          buffer.append(System.lineSeparator()).append(ThreadLeakDetector.describe(thread));
+        }
+        logger.warn(buffer.toString());
+      }
+    }
+    if (annotation.fail() && !leaked.isEmpty()) {
+      throw new AssertionError(description.getDisplayName() + " " + ThreadLeakDetector.describe(leaked));
+    }
+  }
+}
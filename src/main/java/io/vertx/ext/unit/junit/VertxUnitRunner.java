@@ -3,13 +3,16 @@ package io.vertx.ext.unit.junit;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.TestOptions;
 import io.vertx.ext.unit.impl.Helper;
 import io.vertx.ext.unit.impl.TestContextImpl;
+import io.vertx.ext.unit.impl.TestMonitor;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
@@ -81,7 +84,17 @@ public class VertxUnitRunner extends BlockJUnit4ClassRunner {
     return new Statement() {
       @Override
       public void evaluate() throws Throwable {
-        invokeExplosively(ctx, method, test);
+        TestMonitor monitor = ctx.monitor();
+        monitor.begin(contextStack.peekLast());
+        try {
+          invokeExplosively(ctx, method, test);
+        } finally {
+          monitor.end();
+        }
+        Throwable failure = monitor.verify(null);
+        if (failure != null) {
+          throw failure;
+        }
       }
     };
   }
@@ -146,12 +159,41 @@ public class VertxUnitRunner extends BlockJUnit4ClassRunner {
 
   private TestContextImpl testContext;
 
+  /**
+   * The runner only reports the test failures, the monitor does not begin the detectors reporting diagnostics
+   * or metrics.
+   */
+  private static TestMonitor createMonitor() {
+    return new TestMonitor(new TestOptions()
+        .setSampleEventLoopLag(false)
+        .setMaxEventLoopLag(0)
+        .setMaxBlockedThreadTime(0)
+        .setDetectBufferLeaks(false)
+        .setDetectThreadLeaks(false)
+        .setDetectVertxLeaks(false)
+        .setProfilingInterval(0)
+        .setTimeoutDiagnostics(false)
+        .setStallTimeout(0)
+        .setTraceAsyncs(false)
+        .setMeasureEventBus(false));
+  }
+
   @Override
   protected Statement methodBlock(FrameworkMethod method) {
-    testContext = new TestContextImpl(new HashMap<>(classAttributes), null);
+    testContext = new TestContextImpl(new HashMap<>(classAttributes), null, createMonitor());
     Statement statement = super.methodBlock(method);
     testContext = null;
-    return statement;
+    DetectThreadLeaks detectThreadLeaks = method.getAnnotation(DetectThreadLeaks.class);
+    if (detectThreadLeaks == null) {
+      detectThreadLeaks = getTestClass().getAnnotation(DetectThreadLeaks.class);
+    }
+    return ThreadLeakStatement.apply(statement, detectThreadLeaks, describeChild(method));
+  }
+
+  @Override
+  protected Statement classBlock(RunNotifier notifier) {
+    Statement statement = super.classBlock(notifier);
+    return ThreadLeakStatement.apply(statement, getTestClass().getAnnotation(DetectThreadLeaks.class), getDescription());
   }
 
   @Override
@@ -13,6 +13,8 @@ import io.vertx.codegen.annotations.VertxGen;
  *   <li>an error failure: an expected error occured</li>
  * </ul>
  *
+ * An assertion failure can also be a performance failure when a performance assertion failed.
+ *
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -25,6 +27,14 @@ public interface Failure {
   @CacheReturn
   boolean isError();
 
+  /**
+   * @return true if the failure is a performance assertion failure, i.e a {@link io.vertx.ext.unit.PerformanceAssertionError}
+   */
+  @CacheReturn
+  default boolean isPerformance() {
+    return false;
+  }
+
   /**
    * @return the error message
    */
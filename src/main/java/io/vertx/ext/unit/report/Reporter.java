@@ -58,4 +58,15 @@ public interface Reporter<R> {
    */
   void reportEndTestSuite(R report);
 
+  /**
+   * Signals a test suite ended, the test suite report provides the duration of the {@code before} and
+   * {@code after} callbacks. The default implementation calls {@link #reportEndTestSuite(Object)}.
+   *
+   * @param report the report
+   * @param suite the test suite report
+   */
+  default void reportEndTestSuite(R report, TestSuiteReport suite) {
+    reportEndTestSuite(report);
+  }
+
 }
@@ -2,6 +2,10 @@ package io.vertx.ext.unit.report;
 
 import io.vertx.codegen.annotations.CacheReturn;
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * The result of a test.
@@ -18,7 +22,7 @@ public interface TestResult {
   String name();
 
   /**
-   * The time at which the test began in millis.
+   * The wall-clock time at which the test began in millis.
    */
   @CacheReturn
   long beginTime();
@@ -29,6 +33,74 @@ public interface TestResult {
   @CacheReturn
   long durationTime();
 
+  /**
+   * How long the test lasted in nanos, measured with a monotonic clock, {@link #durationTime()} is this duration
+   * truncated to millis. The default implementation converts the {@link #durationTime()} to nanos.
+   */
+  @CacheReturn
+  default long durationNanos() {
+    return durationTime() * 1_000_000;
+  }
+
+  /**
+   * How long the {@code beforeEach} callback of the test lasted in millis, included in the {@link #durationTime()},
+   * -1 when the test suite has no {@code beforeEach} callback.
+   */
+  @CacheReturn
+  default long beforeEachTime() {
+    return -1;
+  }
+
+  /**
+   * How long the test body lasted in millis, included in the {@link #durationTime()}, -1 when the test body was
+   * not executed, e.g the {@code beforeEach} callback failed.
+   */
+  @CacheReturn
+  default long testTime() {
+    return -1;
+  }
+
+  /**
+   * How long the {@code afterEach} callback of the test lasted in millis, included in the {@link #durationTime()},
+   * -1 when the test suite has no {@code afterEach} callback.
+   */
+  @CacheReturn
+  default long afterEachTime() {
+    return -1;
+  }
+
+  /**
+   * How long the {@code beforeEach} callback of the test lasted in nanos, measured with a monotonic clock,
+   * {@link #beforeEachTime()} is this duration truncated to millis. The default implementation converts the
+   * {@link #beforeEachTime()} to nanos.
+   */
+  @CacheReturn
+  default long beforeEachNanos() {
+    long time = beforeEachTime();
+    return time >= 0 ? time * 1_000_000 : -1;
+  }
+
+  /**
+   * How long the test body lasted in nanos, measured with a monotonic clock, {@link #testTime()} is this duration
+   * truncated to millis. The default implementation converts the {@link #testTime()} to nanos.
+   */
+  @CacheReturn
+  default long testNanos() {
+    long time = testTime();
+    return time >= 0 ? time * 1_000_000 : -1;
+  }
+
+  /**
+   * How long the {@code afterEach} callback of the test lasted in nanos, measured with a monotonic clock,
+   * {@link #afterEachTime()} is this duration truncated to millis. The default implementation converts the
+   * {@link #afterEachTime()} to nanos.
+   */
+  @CacheReturn
+  default long afterEachNanos() {
+    long time = afterEachTime();
+    return time >= 0 ? time * 1_000_000 : -1;
+  }
+
   /**
    * Did it succeed?
    */
@@ -46,4 +118,95 @@ public interface TestResult {
    */
   @CacheReturn
   Failure failure();
+
+  /**
+   * The number of bytes allocated by the threads that executed the test handlers, -1 when the JVM does not
+   * support thread allocation measurement.
+   */
+  @CacheReturn
+  default long allocatedBytes() {
+    return -1;
+  }
+
+  /**
+   * The CPU time in nanos used by the threads that executed the test handlers, -1 when the JVM does not
+   * support thread CPU time measurement.
+   */
+  @CacheReturn
+  default long cpuTime() {
+    return -1;
+  }
+
+  /**
+   * The ratio of the test wall-clock time during which the threads that executed the test handlers did not
+   * use CPU, e.g waiting for timers, sleeps or I/O, between {@code 0} and {@code 1}, -1 when the JVM does not
+   * support thread CPU time measurement.
+   */
+  @CacheReturn
+  default double idleRatio() {
+    return -1;
+  }
+
+  /**
+   * The number of garbage collection pauses that occurred while the test was running, -1 when the JVM does not
+   * support garbage collection notifications.
+   */
+  @CacheReturn
+  default long gcCount() {
+    return -1;
+  }
+
+  /**
+   * The time in millis spent in garbage collection pauses while the test was running, -1 when the JVM does not
+   * support garbage collection notifications.
+   */
+  @CacheReturn
+  default long gcTime() {
+    return -1;
+  }
+
+  /**
+   * The metrics reported by the test keyed by name, empty when the test did not report any.
+   */
+  @CacheReturn
+  default JsonObject metrics() {
+    return new JsonObject();
+  }
+
+  /**
+   * The diagnostics recorded while the test was running, e.g the stack trace of a blocked thread, empty when
+   * there are none.
+   */
+  @CacheReturn
+  default List<String> diagnostics() {
+    return Collections.emptyList();
+  }
+
+  /**
+   * The stacks of the threads executing the test sampled when the profiling is enabled, keyed by collapsed stack:
+   * the frames from the root to the leaf separated by {@code ;}, the value is the number of samples. Empty when
+   * the test was not profiled.
+   */
+  @CacheReturn
+  default JsonObject profile() {
+    return new JsonObject();
+  }
+
+  /**
+   * The timeline of the asyncs created by the test when the asyncs are traced, empty otherwise:
+   *
+   * <ul>
+   *   <li>{@code events}: the creation, count down, completion or failure of the asyncs, each event has the
+   *   {@code async} id, the async {@code label} if any, the {@code type}, the {@code time} in nanos since the
+   *   beginning of the test, the {@code count} of the async and the {@code thread} name</li>
+   *   <li>{@code criticalPath}: the chain of asyncs ending with the async that completed last, each async is preceded
+   *   by the async that completed last before its creation, i.e the async it was waiting on. Each step has the
+   *   {@code async} id, the {@code label} if any and the {@code created}, {@code completed} and {@code duration}
+   *   times in nanos</li>
+   * </ul>
+   */
+  @CacheReturn
+  default JsonObject asyncTimeline() {
+    return new JsonObject();
+  }
 }
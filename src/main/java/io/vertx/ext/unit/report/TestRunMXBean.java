@@ -0,0 +1,65 @@
+package io.vertx.ext.unit.report;
+
+import java.util.Map;
+
+/**
+ * The management interface exposing the live metrics of the test suites run in the JVM, registered with the
+ * {@code io.vertx.unit:type=TestRun} object name in the platform MBean server when a test suite is run.<p/>
+ *
+ * The metrics are cumulated over all the test suites run, which allows to watch the progress of soak tests or
+ * synthetic monitoring with the standard JMX tools.
+ */
+public interface TestRunMXBean {
+
+  /**
+   * The object name of the MBean.
+   */
+  String OBJECT_NAME = "io.vertx.unit:type=TestRun";
+
+  /**
+   * @return the number of test cases started
+   */
+  long getTestsStarted();
+
+  /**
+   * @return the number of test cases passed
+   */
+  long getTestsPassed();
+
+  /**
+   * @return the number of test cases failed
+   */
+  long getTestsFailed();
+
+  /**
+   * @return the test cases currently running, the key is the test suite name and the test case name separated by a
+   *         {@code /} and the value is the time elapsed since the test case started in milliseconds
+   */
+  Map<String, Long> getRunningTests();
+
+  /**
+   * @return the number of asyncs of the running test cases that are not yet completed
+   */
+  long getOutstandingAsyncs();
+
+  /**
+   * @return the median duration in milliseconds of the last test cases
+   */
+  long getDurationP50();
+
+  /**
+   * @return the 90th percentile duration in milliseconds of the last test cases
+   */
+  long getDurationP90();
+
+  /**
+   * @return the 99th percentile duration in milliseconds of the last test cases
+   */
+  long getDurationP99();
+
+  /**
+   * @return the maximum duration in milliseconds of the last test cases
+   */
+  long getDurationMax();
+
+}
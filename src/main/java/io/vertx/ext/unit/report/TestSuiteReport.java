@@ -19,6 +19,26 @@ public interface TestSuiteReport extends ReadStream<TestCaseReport> {
   @CacheReturn
   String name();
 
+  /**
+   * How long the {@code before} callback of the test suite lasted in millis, -1 when the test suite has no
+   * {@code before} callback or it has not been executed yet.
+   *
+   * @return the {@code before} callback duration
+   */
+  default long beforeTime() {
+    return -1;
+  }
+
+  /**
+   * How long the {@code after} callback of the test suite lasted in millis, -1 when the test suite has no
+   * {@code after} callback or it has not been executed yet, it is known when the end handler is called.
+   *
+   * @return the {@code after} callback duration
+   */
+  default long afterTime() {
+    return -1;
+  }
+
   /**
    * Set an exception handler, the exception handler reports the test suite errors, it can be called mulitple
    * times before the test ends.
@@ -15,6 +15,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -85,50 +89,86 @@ public class DefaultReporterFactory implements ReporterFactory {
           if (vertx == null) {
             throw new IllegalArgumentException("No vertx provided for filesystem reporting");
           }
-          streamFactory = (name, ext) -> {
-            String fileName = location + File.separator + name + "." + ext;
-            AsyncFile file = vertx.fileSystem().openBlocking(fileName, new OpenOptions());
-            PrintWriter writer = new PrintWriter(new Writer() {
-              public void write(char[] cbuf, int off, int len) throws IOException {
-                file.write(Buffer.buffer(new String(cbuf, off, len)));
-              }
-              public void flush() throws IOException {
-                file.flush();
-              }
-              public void close() throws IOException {
-                file.close();
-              }
-            });
-            return new ReportStream() {
-              @Override
-              public void info(Buffer msg) {
-                file.write(msg);
-              }
-              @Override
-              public void error(Buffer msg, Throwable cause) {
-                writer.println(msg.toString("UTF-8"));
-                cause.printStackTrace(writer);
-              }
-              @Override
-              public void end() {
-                writer.close();
-              }
-            };
-          };
+          streamFactory = (name, ext) -> fileStream(vertx, location, name, ext);
           break;
         }
         default:
           throw new IllegalArgumentException("Illegal reporter name <" + to + ">");
       }
       String format = options.getFormat();
+      Reporter<?> reporter;
       switch (format) {
         case "simple":
-          return new SimpleFormatter(name -> streamFactory.apply(name, "txt"));
+          reporter = new SimpleFormatter(name -> streamFactory.apply(name, "txt"));
+          break;
         case "junit":
-          return new JunitXmlFormatter(name -> streamFactory.apply(name, "xml"));
+          reporter = new JunitXmlFormatter(name -> streamFactory.apply(name, "xml"));
+          break;
+        case "trace":
+          reporter = new TraceEventFormatter(name -> streamFactory.apply(name, "json"));
+          break;
+        case "otlp":
+          reporter = new OtlpJsonFormatter(name -> streamFactory.apply(name, "otlp.json"));
+          break;
         default:
           throw new IllegalArgumentException("Invalid format <" + format + ">");
       }
+      return reporter;
+    }
+  }
+
+  /**
+   * Create the reporters of a list of report options, the profiles of the tests are written next to the file
+   * reports by a single reporter per location.
+   *
+   * @param vertx the vertx instance
+   * @param options the report options
+   * @return the reporters
+   */
+  public static Reporter[] reporters(Vertx vertx, List<ReportOptions> options) {
+    List<Reporter> reporters = new ArrayList<>();
+    Set<String> locations = new LinkedHashSet<>();
+    for (ReportOptions reportOptions : options) {
+      reporters.add(Reporter.reporter(vertx, reportOptions));
+      String to = reportOptions.getTo();
+      if (to.startsWith("file:")) {
+        locations.add(new File(to.substring("file:".length())).toPath().toAbsolutePath().normalize().toString());
+      }
     }
+    for (String location : locations) {
+      reporters.add(new ProfileReporter(name -> fileStream(vertx, location, name, "collapsed")));
+    }
+    return reporters.toArray(new Reporter[0]);
+  }
+
+  private static ReportStream fileStream(Vertx vertx, String location, String name, String ext) {
+    String fileName = location + File.separator + name + "." + ext;
+    AsyncFile file = vertx.fileSystem().openBlocking(fileName, new OpenOptions().setTruncateExisting(true));
+    PrintWriter writer = new PrintWriter(new Writer() {
+      public void write(char[] cbuf, int off, int len) throws IOException {
+        file.write(Buffer.buffer(new String(cbuf, off, len)));
+      }
+      public void flush() throws IOException {
+        file.flush();
+      }
+      public void close() throws IOException {
+        file.close();
+      }
+    });
+    return new ReportStream() {
+      @Override
+      public void info(Buffer msg) {
+        file.write(msg);
+      }
+      @Override
+      public void error(Buffer msg, Throwable cause) {
+        writer.println(msg.toString("UTF-8"));
+        cause.printStackTrace(writer);
+      }
+      @Override
+      public void end() {
+        writer.close();
+      }
+    };
   }
 }
@@ -1,10 +1,12 @@
 package io.vertx.ext.unit.report.impl;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.collect.EventBusCollector;
 import io.vertx.ext.unit.report.Failure;
 import io.vertx.ext.unit.report.TestResult;
+import io.vertx.ext.unit.report.TestSuiteReport;
 import io.vertx.ext.unit.impl.FailureImpl;
 import io.vertx.ext.unit.report.Reporter;
 
@@ -50,7 +52,31 @@ public class EventBusReporter implements Reporter<EventBusReporter.EventBusRepor
         put("type", EventBusCollector.EVENT_TEST_CASE_END).
         put("name", result.name()).
         put("beginTime", result.beginTime()).
-        put("durationTime", result.durationTime());
+        put("durationTime", result.durationTime()).
+        put("durationNanos", result.durationNanos()).
+        put("allocatedBytes", result.allocatedBytes()).
+        put("cpuTime", result.cpuTime()).
+        put("idleRatio", result.idleRatio()).
+        put("gcCount", result.gcCount()).
+        put("gcTime", result.gcTime()).
+        put("beforeEachTime", result.beforeEachTime()).
+        put("testTime", result.testTime()).
+        put("afterEachTime", result.afterEachTime()).
+        put("beforeEachNanos", result.beforeEachNanos()).
+        put("testNanos", result.testNanos()).
+        put("afterEachNanos", result.afterEachNanos());
+    if (!result.metrics().isEmpty()) {
+      json.put("metrics", result.metrics());
+    }
+    if (!result.diagnostics().isEmpty()) {
+      json.put("diagnostics", new JsonArray(result.diagnostics()));
+    }
+    if (!result.profile().isEmpty()) {
+      json.put("profile", result.profile());
+    }
+    if (!result.asyncTimeline().isEmpty()) {
+      json.put("asyncTimeline", result.asyncTimeline());
+    }
     if (result.failed()) {
       Failure failure = result.failure();
       json.put("failure", ((FailureImpl) failure).toJson());
@@ -71,4 +97,13 @@ public class EventBusReporter implements Reporter<EventBusReporter.EventBusRepor
         put("name", report.name);
     vertx.eventBus().publish(address, msg);
   }
+
+  @Override
+  public void reportEndTestSuite(EventBusReport report, TestSuiteReport suite) {
+    JsonObject msg = new JsonObject().put("type", EventBusCollector.EVENT_TEST_SUITE_END).
+        put("name", report.name).
+        put("beforeTime", suite.beforeTime()).
+        put("afterTime", suite.afterTime());
+    vertx.eventBus().publish(address, msg);
+  }
 }
@@ -1,11 +1,14 @@
 package io.vertx.ext.unit.report.impl;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.unit.report.Failure;
 import io.vertx.ext.unit.report.TestResult;
 import io.vertx.ext.unit.impl.TestResultImpl;
 import io.vertx.ext.unit.report.Reporter;
+import io.vertx.ext.unit.report.TestSuiteReport;
 
 import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
@@ -19,9 +22,12 @@ import java.text.SimpleDateFormat;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
@@ -38,6 +44,10 @@ public class JunitXmlFormatter implements Reporter<JunitXmlFormatter.XmlReport>
     AtomicInteger errors = new AtomicInteger();
     AtomicInteger failures = new AtomicInteger();
     AtomicLong time = new AtomicLong();
+    AtomicLong gcCount = new AtomicLong(-1);
+    AtomicLong gcTime = new AtomicLong(-1);
+    long beforeTime = -1;
+    long afterTime = -1;
     private XmlReport(Date timestamp, String name) {
       this.timestamp = timestamp;
       this.name = name;
@@ -49,6 +59,7 @@ public class JunitXmlFormatter implements Reporter<JunitXmlFormatter.XmlReport>
 
   public JunitXmlFormatter(Function<String, ReportStream> streamFactory) {
     this.streamFactory = streamFactory;
+    this.numberFormat.setMaximumFractionDigits(6);
   }
 
   @Override
@@ -70,7 +81,11 @@ public class JunitXmlFormatter implements Reporter<JunitXmlFormatter.XmlReport>
         report.failures.incrementAndGet();
       }
     }
-    report.time.addAndGet(result.durationTime());
+    report.time.addAndGet(result.durationNanos());
+    if (result.gcCount() >= 0) {
+      report.gcCount.accumulateAndGet(result.gcCount(), (a, b) -> Math.max(a, 0) + b);
+      report.gcTime.accumulateAndGet(result.gcTime(), (a, b) -> Math.max(a, 0) + b);
+    }
   }
 
   @Override
@@ -79,6 +94,13 @@ public class JunitXmlFormatter implements Reporter<JunitXmlFormatter.XmlReport>
     report.errors.incrementAndGet();
   }
 
+  @Override
+  public void reportEndTestSuite(XmlReport report, TestSuiteReport suite) {
+    report.beforeTime = suite.beforeTime();
+    report.afterTime = suite.afterTime();
+    reportEndTestSuite(report);
+  }
+
   @Override
   public void reportEndTestSuite(XmlReport report) {
     // Create xml and send it
@@ -94,23 +116,30 @@ public class JunitXmlFormatter implements Reporter<JunitXmlFormatter.XmlReport>
       sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
       sdf.setTimeZone(TimeZone.getTimeZone("CET"));
       writer.writeAttribute("timestamp", sdf.format(report.timestamp));
-      writer.writeAttribute("time", "" + formatTimeMillis(report.time.get()));
+      writer.writeAttribute("time", "" + formatTimeNanos(report.time.get()));
       writer.writeAttribute("tests", "" + report.results.size());
       writer.writeAttribute("errors", "" + report.errors.get());
       writer.writeAttribute("failures", "" + report.failures.get());
       writer.writeAttribute("skipped", "0");
+      writeProperties(writer, properties(report));
       for (TestResult result : report.results) {
         writer.writeStartElement("testcase");
         writer.writeAttribute("name", result.name());
-        writer.writeAttribute("time", "" + formatTimeMillis(result.durationTime()));
+        writer.writeAttribute("time", "" + formatTimeNanos(result.durationNanos()));
+        writeProperties(writer, properties(result));
         if (result.failed()) {
           writer.writeStartElement("failure");
-          writer.writeAttribute("type", result.failure().isError() ? "Error" : "AssertionError");
+          writer.writeAttribute("type", failureType(result.failure()));
           String msg = result.failure().message();
           writer.writeAttribute("message", msg != null ? msg : "");
           writer.writeCharacters(result.failure().stackTrace());
           writer.writeEndElement();
         }
+        if (!result.diagnostics().isEmpty()) {
+          writer.writeStartElement("system-err");
+          writer.writeCharacters(String.join(System.lineSeparator(), result.diagnostics()));
+          writer.writeEndElement();
+        }
         writer.writeEndElement();
       }
       writer.writeEndElement();
@@ -132,7 +161,80 @@ public class JunitXmlFormatter implements Reporter<JunitXmlFormatter.XmlReport>
     }
   }
 
-  private String formatTimeMillis(long timeMillis) {
-    return numberFormat.format((((double)timeMillis) / 1000));
+  private static void writeProperty(XMLStreamWriter writer, String name, Object value) throws XMLStreamException {
+    writer.writeStartElement("property");
+    writer.writeAttribute("name", name);
+    writer.writeAttribute("value", String.valueOf(value));
+    writer.writeEndElement();
+  }
+
+  private static void writeProperties(XMLStreamWriter writer, Map<String, Object> properties) throws XMLStreamException {
+    if (!properties.isEmpty()) {
+      writer.writeStartElement("properties");
+      for (Map.Entry<String, Object> property : properties.entrySet()) {
+        writeProperty(writer, property.getKey(), property.getValue());
+      }
+      writer.writeEndElement();
+    }
+  }
+
+  private static Map<String, Object> properties(XmlReport report) {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    if (report.beforeTime >= 0) {
+      properties.put("beforeTime", report.beforeTime);
+    }
+    if (report.afterTime >= 0) {
+      properties.put("afterTime", report.afterTime);
+    }
+    if (report.gcCount.get() >= 0) {
+      long time = TimeUnit.NANOSECONDS.toMillis(report.time.get());
+      long gcTime = time > 0 ? Math.min(report.gcTime.get(), time) : report.gcTime.get();
+      properties.put("gcCount", report.gcCount.get());
+      properties.put("gcTime", gcTime);
+      properties.put("gcRatio", time > 0 ? (double) gcTime / time : 0D);
+    }
+    return properties;
+  }
+
+  private static Map<String, Object> properties(TestResult result) {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    if (result.beforeEachTime() >= 0) {
+      properties.put("beforeEachTime", result.beforeEachTime());
+    }
+    if (result.testTime() >= 0) {
+      properties.put("testTime", result.testTime());
+    }
+    if (result.afterEachTime() >= 0) {
+      properties.put("afterEachTime", result.afterEachTime());
+    }
+    if (result.allocatedBytes() >= 0) {
+      properties.put("allocatedBytes", result.allocatedBytes());
+    }
+    if (result.cpuTime() >= 0) {
+      properties.put("cpuTime", result.cpuTime());
+      properties.put("idleRatio", result.idleRatio());
+    }
+    if (result.gcCount() >= 0) {
+      properties.put("gcCount", result.gcCount());
+      properties.put("gcTime", result.gcTime());
+    }
+    for (Map.Entry<String, Object> metric : result.metrics()) {
+      properties.put(metric.getKey(), metric.getValue());
+    }
+    return properties;
+  }
+
+  private static String failureType(Failure failure) {
+    if (failure.isError()) {
+      return "Error";
+    } else if (failure.isPerformance()) {
+      return "PerformanceAssertionError";
+    } else {
+      return "AssertionError";
+    }
+  }
+
+  private String formatTimeNanos(long timeNanos) {
+    return numberFormat.format((((double)timeNanos) / 1_000_000_000));
   }
 }
@@ -0,0 +1,227 @@
+package io.vertx.ext.unit.report.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.report.Failure;
+import io.vertx.ext.unit.report.Reporter;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.ext.unit.report.TestSuiteReport;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Writes the test suite and its test cases as spans in the OTLP/JSON format, the format of the OpenTelemetry file
+ * exporter: each line is a trace export request. A test case span is written when the test case ends, the test suite
+ * span, parent of the test case spans, is written when the test suite ends.<p/>
+ *
+ * While a test case runs, its W3C trace context is put in the local data of the Vert.x context running the test
+ * under the {@link #TRACE_PARENT} key, so the instrumented code called by the test can create child spans.
+ */
+public class OtlpJsonFormatter implements Reporter<OtlpJsonFormatter.OtlpReport> {
+
+  /**
+   * The key of the W3C {@code traceparent} of the running test case in the Vert.x context local data.
+   */
+  public static final String TRACE_PARENT = "traceparent";
+
+  private static final int SPAN_KIND_INTERNAL = 1;
+  private static final int STATUS_CODE_OK = 1;
+  private static final int STATUS_CODE_ERROR = 2;
+
+  private static String randomId(int bytes) {
+    StringBuilder buffer = new StringBuilder(bytes * 2);
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0;i < bytes * 2;i++) {
+      buffer.append(Character.forDigit(random.nextInt(16), 16));
+    }
+    return buffer.toString();
+  }
+
+  private static long epochNanos() {
+    Instant now = Instant.now();
+    return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+  }
+
+  public static class OtlpReport {
+    private final ReportStream stream;
+    private final String name;
+    private final String traceId = randomId(16);
+    private final String spanId = randomId(8);
+    private final long beginTime = epochNanos();
+    private int run;
+    private int failures;
+    private int errors;
+    private String testSpanId;
+    private long testBeginTime;
+    private Context testContext;
+    private Object previousTraceParent;
+    private OtlpReport(ReportStream stream, String name) {
+      this.stream = stream;
+      this.name = name;
+    }
+  }
+
+  private final Function<String, ReportStream> streamFactory;
+
+  public OtlpJsonFormatter(Function<String, ReportStream> streamFactory) {
+    this.streamFactory = streamFactory;
+  }
+
+  @Override
+  public OtlpReport reportBeginTestSuite(String name) {
+    return new OtlpReport(streamFactory.apply(name), name);
+  }
+
+  @Override
+  public void reportBeginTestCase(OtlpReport report, String name) {
+    report.run++;
+    report.testSpanId = randomId(8);
+    report.testBeginTime = epochNanos();
+    Context context = Vertx.currentContext();
+    if (context instanceof ContextInternal) {
+      Map<Object, Object> data = ((ContextInternal) context).localContextData();
+      report.testContext = context;
+      report.previousTraceParent = data.put(TRACE_PARENT, "00-" + report.traceId + "-" + report.testSpanId + "-01");
+    }
+  }
+
+  @Override
+  public void reportEndTestCase(OtlpReport report, String name, TestResult result) {
+    long endTime = report.testBeginTime + result.durationNanos();
+    if (report.testContext != null) {
+      Map<Object, Object> data = ((ContextInternal) report.testContext).localContextData();
+      if (report.previousTraceParent != null) {
+        data.put(TRACE_PARENT, report.previousTraceParent);
+      } else {
+        data.remove(TRACE_PARENT);
+      }
+      report.testContext = null;
+      report.previousTraceParent = null;
+    }
+    JsonArray attributes = new JsonArray().
+        add(attribute("test.suite.name", report.name)).
+        add(attribute("test.case.name", name)).
+        add(attribute("test.case.result.status", result.succeeded() ? "pass" : "fail"));
+    addDuration(attributes, "vertx.unit.before_each.duration", result.beforeEachTime());
+    addDuration(attributes, "vertx.unit.test.duration", result.testTime());
+    addDuration(attributes, "vertx.unit.after_each.duration", result.afterEachTime());
+    JsonObject status;
+    if (result.failed()) {
+      Failure failure = result.failure();
+      if (failure.isError()) {
+        report.errors++;
+      } else {
+        report.failures++;
+      }
+      attributes.add(attribute("exception.type", failureType(failure)));
+      if (failure.message() != null) {
+        attributes.add(attribute("exception.message", failure.message()));
+      }
+      status = status(STATUS_CODE_ERROR, failure.message());
+    } else {
+      status = status(STATUS_CODE_OK, null);
+    }
+    write(report, span(report.traceId, report.testSpanId, report.spanId, name, report.testBeginTime, endTime,
+        attributes, status));
+  }
+
+  @Override
+  public void reportError(OtlpReport report, Throwable err) {
+    report.errors++;
+  }
+
+  @Override
+  public void reportEndTestSuite(OtlpReport report, TestSuiteReport suite) {
+    JsonArray attributes = new JsonArray();
+    addDuration(attributes, "vertx.unit.before.duration", suite.beforeTime());
+    addDuration(attributes, "vertx.unit.after.duration", suite.afterTime());
+    end(report, attributes);
+  }
+
+  @Override
+  public void reportEndTestSuite(OtlpReport report) {
+    end(report, new JsonArray());
+  }
+
+  private void end(OtlpReport report, JsonArray attributes) {
+    boolean failed = report.failures > 0 || report.errors > 0;
+    attributes.
+        add(attribute("test.suite.name", report.name)).
+        add(attribute("test.suite.run.status", failed ? "failure" : "success")).
+        add(new JsonObject().put("key", "vertx.unit.tests").put("value", intValue(report.run))).
+        add(new JsonObject().put("key", "vertx.unit.failures").put("value", intValue(report.failures))).
+        add(new JsonObject().put("key", "vertx.unit.errors").put("value", intValue(report.errors)));
+    JsonObject status = failed ? status(STATUS_CODE_ERROR, null) : status(STATUS_CODE_OK, null);
+    write(report, span(report.traceId, report.spanId, null, report.name, report.beginTime,
+        Math.max(report.beginTime, epochNanos()), attributes, status));
+    report.stream.end();
+  }
+
+  private static String failureType(Failure failure) {
+    if (failure.cause() != null) {
+      return failure.cause().getClass().getName();
+    } else if (failure.isPerformance()) {
+      return "io.vertx.ext.unit.PerformanceAssertionError";
+    } else if (failure.isError()) {
+      return "java.lang.Exception";
+    } else {
+      return "java.lang.AssertionError";
+    }
+  }
+
+  private static JsonObject span(String traceId, String spanId, String parentSpanId, String name, long beginTime,
+                                 long endTime, JsonArray attributes, JsonObject status) {
+    JsonObject span = new JsonObject().
+        put("traceId", traceId).
+        put("spanId", spanId);
+    if (parentSpanId != null) {
+      span.put("parentSpanId", parentSpanId);
+    }
+    return span.
+        put("name", name).
+        put("kind", SPAN_KIND_INTERNAL).
+        put("startTimeUnixNano", String.valueOf(beginTime)).
+        put("endTimeUnixNano", String.valueOf(endTime)).
+        put("attributes", attributes).
+        put("status", status);
+  }
+
+  private static JsonObject status(int code, String message) {
+    JsonObject status = new JsonObject().put("code", code);
+    if (message != null) {
+      status.put("message", message);
+    }
+    return status;
+  }
+
+  private static JsonObject attribute(String key, String value) {
+    return new JsonObject().put("key", key).put("value", new JsonObject().put("stringValue", value));
+  }
+
+  private static JsonObject intValue(long value) {
+    return new JsonObject().put("intValue", String.valueOf(value));
+  }
+
+  private static void addDuration(JsonArray attributes, String key, long millis) {
+    if (millis >= 0) {
+      attributes.add(new JsonObject().put("key", key + "_ms").put("value", intValue(millis)));
+    }
+  }
+
+  private void write(OtlpReport report, JsonObject span) {
+    JsonArray resourceAttributes = new JsonArray().add(attribute("service.name", "vertx-unit"));
+    JsonObject request = new JsonObject().put("resourceSpans", new JsonArray().add(new JsonObject().
+        put("resource", new JsonObject().put("attributes", resourceAttributes)).
+        put("scopeSpans", new JsonArray().add(new JsonObject().
+            put("scope", new JsonObject().put("name", "io.vertx.ext.unit")).
+            put("spans", new JsonArray().add(span))))));
+    report.stream.info(Buffer.buffer(request.encode() + "\n"));
+  }
+}
@@ -0,0 +1,78 @@
+package io.vertx.ext.unit.report.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.unit.report.Reporter;
+import io.vertx.ext.unit.report.TestResult;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Writes the collapsed stacks of the profiled test cases, a file per test case and a file aggregating the test cases
+ * of the test suite. The files can be rendered by the flame graph tools.<p/>
+ *
+ * A single profile reporter is created per location, so the files are written once when several reporters
+ * write to the same location.
+ */
+public class ProfileReporter implements Reporter<ProfileReporter.ReportImpl> {
+
+  private static String fileName(String name) {
+    return name.replaceAll("[\\\\/:*?\"<>|]", "_");
+  }
+
+  public static class ReportImpl {
+    private final String name;
+    private final Map<String, Long> profile = new TreeMap<>();
+    private ReportImpl(String name) {
+      this.name = name;
+    }
+  }
+
+  private final Function<String, ReportStream> streamFactory;
+
+  /**
+   * @param streamFactory the factory of the stream writing a profile
+   */
+  public ProfileReporter(Function<String, ReportStream> streamFactory) {
+    this.streamFactory = streamFactory;
+  }
+
+  @Override
+  public ReportImpl reportBeginTestSuite(String name) {
+    return new ReportImpl(name);
+  }
+
+  @Override
+  public void reportBeginTestCase(ReportImpl report, String name) {
+  }
+
+  @Override
+  public void reportEndTestCase(ReportImpl report, String name, TestResult result) {
+    if (!result.profile().isEmpty()) {
+      Map<String, Long> profile = new TreeMap<>();
+      result.profile().forEach(sample -> profile.put(sample.getKey(), ((Number) sample.getValue()).longValue()));
+      profile.forEach((stack, count) -> report.profile.merge(stack, count, Long::sum));
+      write(report.name + "." + fileName(name), profile);
+    }
+  }
+
+  @Override
+  public void reportError(ReportImpl report, Throwable err) {
+  }
+
+  @Override
+  public void reportEndTestSuite(ReportImpl report) {
+    if (!report.profile.isEmpty()) {
+      write(report.name, report.profile);
+    }
+  }
+
+  private void write(String name, Map<String, Long> profile) {
+    StringBuilder buffer = new StringBuilder();
+    profile.forEach((stack, count) -> buffer.append(stack).append(' ').append(count).append('\n'));
+    ReportStream stream = streamFactory.apply(name);
+    stream.info(Buffer.buffer(buffer.toString()));
+    stream.end();
+  }
+}
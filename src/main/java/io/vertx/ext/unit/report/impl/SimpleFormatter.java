@@ -1,9 +1,17 @@
 package io.vertx.ext.unit.report.impl;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.report.TestResult;
 import io.vertx.ext.unit.report.Reporter;
+import io.vertx.ext.unit.report.TestSuiteReport;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -11,6 +19,16 @@ import java.util.function.Function;
  */
 public class SimpleFormatter implements Reporter<SimpleFormatter.ReportImpl> {
 
+  /**
+   * The number of most idle tests reported at the end of the test suite.
+   */
+  static final int MOST_IDLE_TESTS = 5;
+
+  /**
+   * The minimum idle time in millis of a test to be reported as idle.
+   */
+  static final long IDLE_TIME_THRESHOLD = 100;
+
   private final String sep = System.lineSeparator();
   private final Function<String, ReportStream> streamFactory;
 
@@ -24,6 +42,12 @@ public class SimpleFormatter implements Reporter<SimpleFormatter.ReportImpl> {
     private int run;
     private int failures;
     private int errors;
+    private final List<TestResult> mostIdle = new ArrayList<>();
+    private final long beginTime = System.nanoTime();
+    private long gcCount = -1;
+    private long gcTime = -1;
+    private long beforeTime = -1;
+    private long afterTime = -1;
     public ReportImpl(ReportStream stream, String name) {
       this.stream = stream;
       this.name = name;
@@ -53,7 +77,76 @@ public class SimpleFormatter implements Reporter<SimpleFormatter.ReportImpl> {
       } else {
         report.failures++;
       }
-      report.stream.error(Buffer.buffer("Failed " + result.name() +  sep), result.failure().cause());
+      String prefix = result.failure().isPerformance() ? "Failed (performance) " : "Failed ";
+      report.stream.error(Buffer.buffer(prefix + result.name() +  sep), result.failure().cause());
+    }
+    reportPhases(report, result);
+    reportCriticalPath(report, result);
+    reportMetrics(report, result);
+    reportDiagnostics(report, result);
+    trackIdle(report, result);
+    if (result.gcCount() >= 0) {
+      report.gcCount = Math.max(report.gcCount, 0) + result.gcCount();
+      report.gcTime = Math.max(report.gcTime, 0) + result.gcTime();
+    }
+  }
+
+  private static long idleTime(TestResult result) {
+    return (long) (result.durationTime() * result.idleRatio());
+  }
+
+  private void trackIdle(ReportImpl report, TestResult result) {
+    if (result.idleRatio() >= 0 && idleTime(result) >= IDLE_TIME_THRESHOLD) {
+      List<TestResult> mostIdle = report.mostIdle;
+      mostIdle.add(result);
+      mostIdle.sort(Comparator.comparingLong(SimpleFormatter::idleTime).reversed());
+      if (mostIdle.size() > MOST_IDLE_TESTS) {
+        mostIdle.remove(MOST_IDLE_TESTS);
+      }
+    }
+  }
+
+  private void reportPhases(ReportImpl report, TestResult result) {
+    if (result.beforeEachTime() >= 0 || result.afterEachTime() >= 0) {
+      StringBuilder buffer = new StringBuilder("  phases:");
+      appendTime(buffer, " beforeEach ", result.beforeEachTime());
+      appendTime(buffer, " test ", result.testTime());
+      appendTime(buffer, " afterEach ", result.afterEachTime());
+      report.stream.info(Buffer.buffer(buffer.append(sep).toString()));
+    }
+  }
+
+  private void reportCriticalPath(ReportImpl report, TestResult result) {
+    JsonArray path = result.asyncTimeline().getJsonArray("criticalPath");
+    if (path != null && !path.isEmpty()) {
+      StringBuilder buffer = new StringBuilder("  critical path:");
+      for (int i = 0;i < path.size();i++) {
+        JsonObject step = path.getJsonObject(i);
+        buffer.append(i > 0 ? " -> " : " ").
+            append(step.getString("label", "#" + step.getInteger("async"))).
+            append(' ').append(TimeUnit.NANOSECONDS.toMillis(step.getLong("duration"))).append(" ms");
+      }
+      report.stream.info(Buffer.buffer(buffer.append(sep).toString()));
+    }
+  }
+
+  private static void appendTime(StringBuilder buffer, String name, long time) {
+    if (time >= 0) {
+      buffer.append(name).append(time).append(" ms");
+    }
+  }
+
+  private void reportMetrics(ReportImpl report, TestResult result) {
+    if (!result.metrics().isEmpty()) {
+      StringBuilder buffer = new StringBuilder();
+      result.metrics().forEach(metric -> buffer.append("  ").append(metric.getKey()).append(" = ").append(metric.getValue()).append(sep));
+      report.stream.info(Buffer.buffer(buffer.toString()));
+    }
+  }
+
+  private void reportDiagnostics(ReportImpl report, TestResult result) {
+    for (String diagnostic : result.diagnostics()) {
+      report.stream.info(Buffer.buffer(diagnostic + sep));
     }
   }
 
@@ -62,11 +155,40 @@ public class SimpleFormatter implements Reporter<SimpleFormatter.ReportImpl> {
     report.stream.error(Buffer.buffer("Test suite " + report.name + " failure" + sep), err);
   }
 
+  @Override
+  public void reportEndTestSuite(ReportImpl report, TestSuiteReport suite) {
+    report.beforeTime = suite.beforeTime();
+    report.afterTime = suite.afterTime();
+    reportEndTestSuite(report);
+  }
+
   @Override
   public void reportEndTestSuite(ReportImpl report) {
     String msg = "End test suite " + report.name + " , run: " + report.run + ", Failures: " + report.failures +
         ", Errors: " + report.errors + sep;
     report.stream.info(Buffer.buffer(msg));
+    if (report.beforeTime >= 0 || report.afterTime >= 0) {
+      StringBuilder buffer = new StringBuilder("Fixtures of " + report.name + ":");
+      appendTime(buffer, " before ", report.beforeTime);
+      appendTime(buffer, " after ", report.afterTime);
+      report.stream.info(Buffer.buffer(buffer.append(sep).toString()));
+    }
+    if (report.gcCount > 0) {
+      long runTime = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - report.beginTime));
+      long gcTime = Math.min(report.gcTime, runTime);
+      report.stream.info(Buffer.buffer("GC pauses of " + report.name + ": " + report.gcCount + ", GC time: " + gcTime +
+          " ms (" + String.format(Locale.ENGLISH, "%.1f", gcTime * 100D / runTime) + "% of " + runTime + " ms)" + sep));
+    }
+    if (!report.mostIdle.isEmpty()) {
+      StringBuilder buffer = new StringBuilder("Most idle tests of " + report.name + ":" + sep);
+      for (TestResult result : report.mostIdle) {
+        buffer.append("  ").append(result.name()).
+            append(" idle ").append(idleTime(result)).append(" ms").
+            append(" (").append(Math.round(result.idleRatio() * 100)).append("% of ").append(result.durationTime()).append(" ms)").
+            append(", CPU ").append(TimeUnit.NANOSECONDS.toMillis(result.cpuTime())).append(" ms").append(sep);
+      }
+      report.stream.info(Buffer.buffer(buffer.toString()));
+    }
     report.stream.end();
   }
 }
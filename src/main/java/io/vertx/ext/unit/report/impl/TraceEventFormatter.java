@@ -0,0 +1,226 @@
+package io.vertx.ext.unit.report.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.report.Reporter;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.ext.unit.report.TestSuiteReport;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Writes the test suite execution in the trace event format, the report opens in the Chrome and Perfetto trace
+ * viewers.<p/>
+ *
+ * The test suite, its tests, their phases and the labelled asyncs are spans. A span is placed on the track of the
+ * thread that ran it, the asyncs overlap each other and are written as async spans naming the threads that created
+ * and completed them. The events are written to the stream as soon as they are known, only the state of the running test is
+ * kept in memory.<p/>
+ *
+ * The timestamps are in micros since the formatter class initialization, the traces of the test suites executed
+ * by the same JVM share the same time base.
+ */
+public class TraceEventFormatter implements Reporter<TraceEventFormatter.TraceReport> {
+
+  private static final long ORIGIN = System.nanoTime();
+  private static final long PID = ProcessHandle.current().pid();
+
+  private static long micros(long nanoTime) {
+    return TimeUnit.NANOSECONDS.toMicros(nanoTime - ORIGIN);
+  }
+
+  public static class TraceReport {
+    private final ReportStream stream;
+    private final String name;
+    private final long tid;
+    private final long beginTime = System.nanoTime();
+    private final Set<Long> threads = new HashSet<>();
+    private boolean first = true;
+    private long testTid;
+    private long testBeginTime;
+    private TraceReport(ReportStream stream, String name) {
+      this.stream = stream;
+      this.name = name;
+      this.tid = Thread.currentThread().getId();
+    }
+  }
+
+  private final Function<String, ReportStream> streamFactory;
+
+  public TraceEventFormatter(Function<String, ReportStream> streamFactory) {
+    this.streamFactory = streamFactory;
+  }
+
+  @Override
+  public TraceReport reportBeginTestSuite(String name) {
+    TraceReport report = new TraceReport(streamFactory.apply(name), name);
+    report.stream.info(Buffer.buffer("["));
+    write(report, new JsonObject().
+        put("name", "process_name").
+        put("ph", "M").
+        put("pid", PID).
+        put("args", new JsonObject().put("name", "vertx-unit")));
+    thread(report, Thread.currentThread());
+    return report;
+  }
+
+  @Override
+  public void reportBeginTestCase(TraceReport report, String name) {
+    Thread thread = Thread.currentThread();
+    thread(report, thread);
+    report.testTid = thread.getId();
+    report.testBeginTime = System.nanoTime();
+  }
+
+  @Override
+  public void reportEndTestCase(TraceReport report, String name, TestResult result) {
+    long begin = micros(report.testBeginTime);
+    long end = Math.max(begin, micros(System.nanoTime()));
+    JsonObject args = new JsonObject().put("succeeded", result.succeeded());
+    if (result.failed()) {
+      args.put("failure", result.failure().message());
+    }
+    write(report, span(name, "test", report.testTid, begin, end).put("args", args));
+    if (result.beforeEachNanos() >= 0 || result.afterEachNanos() >= 0) {
+      // The phases are executed one after the other from the beginning of the test
+      long phaseBegin = report.testBeginTime;
+      phaseBegin = phase(report, "beforeEach", phaseBegin, result.beforeEachNanos(), end);
+      phaseBegin = phase(report, "test", phaseBegin, result.testNanos(), end);
+      phase(report, "afterEach", phaseBegin, result.afterEachNanos(), end);
+    }
+    JsonArray events = result.asyncTimeline().getJsonArray("events");
+    if (events != null) {
+      writeAsyncs(report, name, begin, events);
+    }
+  }
+
+  /**
+   * Write the span of a phase.
+   *
+   * @param begin the {@link System#nanoTime()} at which the phase began
+   * @param nanos the phase duration in nanos or {@code -1} when it was not executed
+   * @param end the end of the test in micros
+   * @return the {@link System#nanoTime()} at which the phase ended
+   */
+  private long phase(TraceReport report, String name, long begin, long nanos, long end) {
+    if (nanos < 0) {
+      return begin;
+    }
+    write(report, span(name, "phase", report.testTid, Math.min(end, micros(begin)), Math.min(end, micros(begin + nanos))));
+    return begin + nanos;
+  }
+
+  private void writeAsyncs(TraceReport report, String test, long begin, JsonArray events) {
+    Map<Integer, JsonObject> created = new HashMap<>();
+    for (int i = 0;i < events.size();i++) {
+      JsonObject event = events.getJsonObject(i);
+      String label = event.getString("label");
+      if (label == null) {
+        continue;
+      }
+      String type = event.getString("type");
+      int async = event.getInteger("async");
+      if (type.equals("created")) {
+        created.put(async, event);
+      } else if (type.equals("completed") || type.equals("failed")) {
+        JsonObject creation = created.remove(async);
+        if (creation != null) {
+          String id = report.testBeginTime + "." + async;
+          JsonObject args = new JsonObject().
+              put("test", test).
+              put("createdBy", creation.getString("thread")).
+              put("completedBy", event.getString("thread")).
+              put("succeeded", type.equals("completed"));
+          long createdTime = begin + TimeUnit.NANOSECONDS.toMicros(creation.getLong("time"));
+          long completedTime = begin + TimeUnit.NANOSECONDS.toMicros(event.getLong("time"));
+          write(report, asyncEvent(label, "b", id, report.testTid, createdTime).put("args", args));
+          write(report, asyncEvent(label, "e", id, report.testTid, completedTime));
+        }
+      }
+    }
+  }
+
+  @Override
+  public void reportError(TraceReport report, Throwable err) {
+    write(report, new JsonObject().
+        put("name", "error").
+        put("cat", "suite").
+        put("ph", "i").
+        put("s", "t").
+        put("ts", micros(System.nanoTime())).
+        put("pid", PID).
+        put("tid", report.tid).
+        put("args", new JsonObject().put("message", String.valueOf(err.getMessage()))));
+  }
+
+  @Override
+  public void reportEndTestSuite(TraceReport report, TestSuiteReport suite) {
+    long begin = micros(report.beginTime);
+    long end = micros(System.nanoTime());
+    if (suite.beforeTime() >= 0) {
+      write(report, span("before", "phase", report.tid, begin,
+          Math.min(end, begin + TimeUnit.MILLISECONDS.toMicros(suite.beforeTime()))));
+    }
+    if (suite.afterTime() >= 0) {
+      write(report, span("after", "phase", report.tid,
+          Math.max(begin, end - TimeUnit.MILLISECONDS.toMicros(suite.afterTime())), end));
+    }
+    end(report, end);
+  }
+
+  @Override
+  public void reportEndTestSuite(TraceReport report) {
+    end(report, micros(System.nanoTime()));
+  }
+
+  private void end(TraceReport report, long end) {
+    write(report, span(report.name, "suite", report.tid, micros(report.beginTime), end));
+    report.stream.info(Buffer.buffer("\n]\n"));
+    report.stream.end();
+  }
+
+  private void thread(TraceReport report, Thread thread) {
+    if (report.threads.add(thread.getId())) {
+      write(report, new JsonObject().
+          put("name", "thread_name").
+          put("ph", "M").
+          put("pid", PID).
+          put("tid", thread.getId()).
+          put("args", new JsonObject().put("name", thread.getName())));
+    }
+  }
+
+  private static JsonObject span(String name, String category, long tid, long begin, long end) {
+    return new JsonObject().
+        put("name", name).
+        put("cat", category).
+        put("ph", "X").
+        put("ts", begin).
+        put("dur", end - begin).
+        put("pid", PID).
+        put("tid", tid);
+  }
+
+  private static JsonObject asyncEvent(String name, String phase, String id, long tid, long ts) {
+    return new JsonObject().
+        put("name", name).
+        put("cat", "async").
+        put("ph", phase).
+        put("id", id).
+        put("ts", ts).
+        put("pid", PID).
+        put("tid", tid);
+  }
+
+  private void write(TraceReport report, JsonObject event) {
+    String sep = report.first ? "\n" : ",\n";
+    report.first = false;
+    report.stream.info(Buffer.buffer(sep + event.encode()));
+  }
+}
@@ -4,7 +4,12 @@ module io.vertx.testing.unit {
   requires static io.vertx.codegen.json;
   requires io.vertx.core;
   requires io.vertx.core.logging;
+  requires io.netty.buffer;
+  requires io.netty.common;
+  requires java.management;
   requires java.xml;
+  requires static jdk.jfr;
+  requires jdk.management;
   requires junit;
   exports io.vertx.ext.unit;
   exports io.vertx.ext.unit.report;
@@ -0,0 +1,83 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestOptions;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+public class AsyncTimelineTest extends VertxTestBase {
+
+  @Test
+  public void testConcurrentAsyncs() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      Async db = context.async("db-query");
+      Async http = context.async("http-call");
+      vertx.setTimer(50, id -> db.complete());
+      vertx.setTimer(200, id -> http.complete());
+    }), new TestOptions().setTraceAsyncs(true));
+    assertTrue(result.succeeded());
+    JsonArray path = result.asyncTimeline().getJsonArray("criticalPath");
+    assertEquals(1, path.size());
+    JsonObject step = path.getJsonObject(0);
+    assertEquals("http-call", step.getString("label"));
+    assertTrue(step.getLong("duration") >= 200_000_000L);
+  }
+
+  @Test
+  public void testChainedAsyncs() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      Async db = context.async("db-query");
+      Async cache = context.async("cache");
+      vertx.setTimer(50, id -> db.complete());
+      vertx.setTimer(100, id1 -> {
+        Async http = context.async("http-call");
+        vertx.setTimer(300, id2 -> http.complete());
+      });
+      vertx.setTimer(120, id -> cache.complete());
+    }), new TestOptions().setTraceAsyncs(true));
+    assertTrue(result.succeeded());
+    JsonArray path = result.asyncTimeline().getJsonArray("criticalPath");
+    assertEquals(2, path.size());
+    assertEquals("db-query", path.getJsonObject(0).getString("label"));
+    assertEquals("http-call", path.getJsonObject(1).getString("label"));
+    assertTrue(path.getJsonObject(0).getLong("completed") <= path.getJsonObject(1).getLong("created"));
+  }
+
+  @Test
+  public void testEvents() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async("batch", 2);
+      vertx.setTimer(10, id -> async.countDown());
+      vertx.setTimer(20, id -> async.countDown());
+    }), new TestOptions().setTraceAsyncs(true));
+    assertTrue(result.succeeded());
+    JsonArray events = result.asyncTimeline().getJsonArray("events");
+    assertEquals(4, events.size());
+    String[] types = { "created", "countDown", "countDown", "completed" };
+    int[] counts = { 2, 1, 0, 0 };
+    long time = 0;
+    for (int i = 0;i < events.size();i++) {
+      JsonObject event = events.getJsonObject(i);
+      assertEquals(types[i], event.getString("type"));
+      assertEquals("batch", event.getString("label"));
+      assertEquals(counts[i], (int) event.getInteger("count"));
+      assertNotNull(event.getString("thread"));
+      assertTrue(event.getLong("time") >= time);
+      time = event.getLong("time");
+    }
+  }
+
+  @Test
+  public void testNoTrace() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async("db-query");
+      vertx.setTimer(10, id -> async.complete());
+    }), new TestOptions());
+    assertTrue(result.succeeded());
+    assertTrue(result.asyncTimeline().isEmpty());
+  }
+}
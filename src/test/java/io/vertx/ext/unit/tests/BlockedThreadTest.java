@@ -0,0 +1,76 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.core.VertxException;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestOptions;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+public class BlockedThreadTest extends VertxTestBase {
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  @Test
+  public void testBlockedHandler() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> sleep(400)),
+        new TestOptions().setMaxBlockedThreadTime(100));
+    assertTrue(result.succeeded());
+    assertEquals(1, result.diagnostics().size());
+    String diagnostic = result.diagnostics().get(0);
+    assertTrue(diagnostic, diagnostic.contains("has been blocked for"));
+    assertTrue(diagnostic, diagnostic.contains("time limit is 100 ms"));
+    assertTrue(diagnostic, diagnostic.contains(BlockedThreadTest.class.getName() + ".sleep"));
+  }
+
+  @Test
+  public void testBlockedEventLoop() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async();
+      vertx.setTimer(50, id -> {
+        sleep(400);
+        async.complete();
+      });
+    }), new TestOptions().setMaxBlockedThreadTime(100));
+    assertTrue(result.succeeded());
+    assertEquals(1, result.diagnostics().size());
+    String diagnostic = result.diagnostics().get(0);
+    assertTrue(diagnostic, diagnostic.contains("has been blocked for"));
+    assertTrue(diagnostic, diagnostic.contains(BlockedThreadTest.class.getName() + ".sleep"));
+  }
+
+  @Test
+  public void testFailOnBlockedThread() {
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> sleep(400));
+    ((TestSuiteImpl) suite).runner().
+        setUseEventLoop(false).
+        setOptions(new TestOptions().setMaxBlockedThreadTime(100).setFailOnBlockedThread(true)).
+        setReporter(reporter).
+        run();
+    reporter.await();
+    TestResult result = reporter.results.get(0);
+    assertTrue(result.failed());
+    assertTrue(result.failure().cause() instanceof VertxException);
+    assertTrue(result.failure().message().contains("has been blocked for"));
+    assertEquals(1, result.diagnostics().size());
+  }
+
+  @Test
+  public void testNotBlocked() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async();
+      vertx.setTimer(200, id -> async.complete());
+    }), new TestOptions().setMaxBlockedThreadTime(100));
+    assertTrue(result.succeeded());
+    assertEquals(0, result.diagnostics().size());
+  }
+}
@@ -0,0 +1,90 @@
+package io.vertx.ext.unit.tests;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.util.ResourceLeakDetector;
+import io.vertx.ext.unit.TestOptions;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assume.assumeTrue;
+
+public class BufferLeakTest extends VertxTestBase {
+
+  @Test
+  public void testDetectLeak() {
+    assumeTrue(ResourceLeakDetector.getLevel() == ResourceLeakDetector.Level.PARANOID);
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      PooledByteBufAllocator.DEFAULT.directBuffer(16).writeByte(0);
+    }), new TestOptions().setDetectBufferLeaks(true));
+    assertTrue(result.failed());
+    assertTrue(result.failure().message().contains("leaked buffer"));
+    assertEquals(1, result.diagnostics().size());
+    assertTrue(result.diagnostics().get(0).startsWith("LEAK: ByteBuf.release() was not called"));
+  }
+
+  @Test
+  public void testLeakNotAttributedToNextTest() {
+    assumeTrue(ResourceLeakDetector.getLevel() == ResourceLeakDetector.Level.PARANOID);
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").
+        test("leaking_test", context -> {
+          PooledByteBufAllocator.DEFAULT.directBuffer(16).writeByte(0);
+        }).
+        test("next_test", context -> {
+          PooledByteBufAllocator.DEFAULT.directBuffer(16).writeByte(0).release();
+        });
+    ((TestSuiteImpl) suite).runner().setVertx(vertx).setOptions(new TestOptions().setDetectBufferLeaks(true)).setReporter(reporter).run();
+    reporter.await();
+    assertEquals(2, reporter.results.size());
+    TestResult leaking = reporter.results.get(0);
+    assertEquals("leaking_test", leaking.name());
+    assertTrue(leaking.failed());
+    TestResult next = reporter.results.get(1);
+    assertEquals("next_test", next.name());
+    assertTrue(next.succeeded());
+    assertEquals(0, next.diagnostics().size());
+  }
+
+  @Test
+  public void testNoLeak() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      PooledByteBufAllocator.DEFAULT.directBuffer(16).writeByte(0).release();
+    }), new TestOptions().setDetectBufferLeaks(true));
+    assertTrue(result.succeeded());
+    assertEquals(0, result.diagnostics().size());
+  }
+
+  @Test
+  public void testDirectMemoryGrowth() {
+    AtomicReference<ByteBuf> retained = new AtomicReference<>();
+    try {
+      TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+        retained.set(PooledByteBufAllocator.DEFAULT.directBuffer(1024));
+      }), new TestOptions().setDetectBufferLeaks(true));
+      assertTrue(result.succeeded());
+      assertTrue(result.metrics().getLong("directMemory.pooled") >= 1024);
+    } finally {
+      retained.get().release();
+    }
+  }
+
+  @Test
+  public void testDisabledByDefault() {
+    AtomicReference<ByteBuf> retained = new AtomicReference<>();
+    try {
+      TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+        retained.set(PooledByteBufAllocator.DEFAULT.directBuffer(1024));
+      }), new TestOptions());
+      assertTrue(result.succeeded());
+      assertFalse(result.metrics().containsKey("directMemory.pooled"));
+    } finally {
+      retained.get().release();
+    }
+  }
+}
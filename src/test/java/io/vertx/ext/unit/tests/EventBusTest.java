@@ -54,6 +54,7 @@ public class EventBusTest extends VertxTestBase {
           assertEquals(EventBusCollector.EVENT_TEST_CASE_END, type);
           assertEquals(testCaseName1, body.getString("name"));
           assertTrue(body.getInteger("durationTime") >= 10);
+          assertTrue(body.getLong("durationNanos") >= 10_000_000);
           assertNull(testCaseName1, body.getJsonObject("failure"));
           break;
         case 3:
@@ -198,6 +199,7 @@ public class EventBusTest extends VertxTestBase {
         assertTrue(entry1.getValue().succeeded());
         assertTrue(entry1.getValue().beginTime() >= now);
         assertEquals(10, entry1.getValue().durationTime());
+        assertEquals(10_000_000, entry1.getValue().durationNanos());
         assertNull(entry1.getValue().failure());
         Map.Entry<TestCaseReport, TestResult> entry2 = it.next();
         assertEquals(entry2.getKey().name(), entry2.getValue().name());
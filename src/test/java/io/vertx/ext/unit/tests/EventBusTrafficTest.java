@@ -0,0 +1,70 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestOptions;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+public class EventBusTrafficTest extends VertxTestBase {
+
+  @Test
+  public void testRequestReply() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      EventBus eventBus = vertx.eventBus();
+      eventBus.consumer("echo", msg -> msg.reply(msg.body()));
+      Async async = context.async(3);
+      for (int i = 0;i < 3;i++) {
+        eventBus.request("echo", "hello").onComplete(context.asyncAssertSuccess(reply -> {
+          context.assertEquals("hello", reply.body());
+          async.countDown();
+        }));
+      }
+    }), new TestOptions().setMeasureEventBus(true));
+    assertTrue(result.succeeded());
+    JsonObject metrics = result.metrics();
+    assertEquals(3L, (long) metrics.getLong("eventBus.echo.sent"));
+    assertEquals(3L, (long) metrics.getLong("eventBus.echo.received"));
+    assertEquals(3L, (long) metrics.getLong("eventBus.echo.requests"));
+    assertEquals(3L, (long) metrics.getLong("eventBus.echo.replies"));
+    assertEquals(15L, (long) metrics.getLong("eventBus.echo.bytes"));
+    assertEquals(5L, (long) metrics.getLong("eventBus.echo.bytes.max"));
+    assertEquals(15L, (long) metrics.getLong("eventBus.echo.replyBytes"));
+    long p50 = metrics.getLong("eventBus.echo.roundTrip.p50");
+    assertTrue(p50 > 0);
+    assertTrue(p50 <= metrics.getLong("eventBus.echo.roundTrip.max"));
+    assertFalse(metrics.containsKey("eventBus.pendingRequests"));
+  }
+
+  @Test
+  public void testPublish() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      EventBus eventBus = vertx.eventBus();
+      Async async = context.async(2);
+      eventBus.consumer("news", msg -> async.countDown());
+      eventBus.consumer("news", msg -> async.countDown());
+      eventBus.publish("news", Buffer.buffer(new byte[10]));
+    }), new TestOptions().setMeasureEventBus(true));
+    assertTrue(result.succeeded());
+    JsonObject metrics = result.metrics();
+    assertEquals(1L, (long) metrics.getLong("eventBus.news.published"));
+    assertEquals(2L, (long) metrics.getLong("eventBus.news.received"));
+    assertEquals(10L, (long) metrics.getLong("eventBus.news.bytes"));
+    assertFalse(metrics.containsKey("eventBus.news.sent"));
+  }
+
+  @Test
+  public void testDisabled() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async();
+      vertx.eventBus().consumer("echo", msg -> async.complete());
+      vertx.eventBus().send("echo", "hello");
+    }), new TestOptions());
+    assertTrue(result.succeeded());
+    assertFalse(result.metrics().containsKey("eventBus.echo.sent"));
+  }
+}
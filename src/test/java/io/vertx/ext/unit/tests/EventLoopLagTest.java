@@ -0,0 +1,78 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.PerformanceAssertionError;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.TestOptions;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+public class EventLoopLagTest extends VertxTestBase {
+
+  private static void blockEventLoop(TestContext context, long millis) {
+    Async async = context.async();
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      context.fail(e);
+    }
+    // Let the pending probe execute before the end of the test
+    Context ctx = Vertx.currentContext();
+    ctx.owner().setTimer(50, id -> async.complete());
+  }
+
+  @Test
+  public void testLagMetrics() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> blockEventLoop(context, 200)),
+        new TestOptions().setSampleEventLoopLag(true));
+    assertTrue(result.succeeded());
+    JsonObject metrics = result.metrics();
+    assertTrue(metrics.getLong("eventLoop.lag.samples") > 0);
+    assertTrue("Unexpected max lag " + metrics.getLong("eventLoop.lag.max"), metrics.getLong("eventLoop.lag.max") >= 100_000_000L);
+    assertTrue(metrics.getLong("eventLoop.lag.p50") <= metrics.getLong("eventLoop.lag.max"));
+    double busyRatio = metrics.getDouble("eventLoop.busyRatio");
+    assertTrue("Unexpected busy ratio " + busyRatio, busyRatio > 0 && busyRatio <= 1);
+  }
+
+  @Test
+  public void testMaxLagExceeded() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> blockEventLoop(context, 200)),
+        new TestOptions().setMaxEventLoopLag(50));
+    assertTrue(result.failed());
+    assertTrue(result.failure().isPerformance());
+    PerformanceAssertionError err = (PerformanceAssertionError) result.failure().cause();
+    assertTrue(err.measurements().getLong("maxEventLoopLag") > 50);
+  }
+
+  @Test
+  public void testMaxLagNotExceeded() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async();
+      vertx.setTimer(100, id -> async.complete());
+    }), new TestOptions().setMaxEventLoopLag(5000));
+    assertTrue(result.succeeded());
+  }
+
+  @Test
+  public void testNotSampledByDefault() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> blockEventLoop(context, 50)),
+        new TestOptions());
+    assertTrue(result.succeeded());
+    assertFalse(result.metrics().containsKey("eventLoop.lag.samples"));
+  }
+
+  @Test
+  public void testNoEventLoop() {
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> {});
+    ((TestSuiteImpl) suite).runner().setUseEventLoop(false).setReporter(reporter).run();
+    reporter.await();
+    assertFalse(reporter.results.get(0).metrics().containsKey("eventLoop.lag.max"));
+  }
+}
@@ -0,0 +1,82 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
+import io.vertx.test.core.VertxTestBase;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class JfrEventsTest extends VertxTestBase {
+
+  private List<RecordedEvent> record(TestSuite suite) throws Exception {
+    Path file = File.createTempFile("vertx-unit", ".jfr").toPath();
+    try (Recording recording = new Recording()) {
+      recording.enable("io.vertx.unit.TestSuite");
+      recording.enable("io.vertx.unit.TestCase");
+      recording.enable("io.vertx.unit.TestPhase");
+      recording.enable("io.vertx.unit.AsyncLifecycle");
+      recording.start();
+      TestReporter reporter = new TestReporter();
+      ((TestSuiteImpl) suite).runner().setVertx(vertx).setReporter(reporter).run();
+      reporter.await();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      file.toFile().delete();
+    }
+  }
+
+  private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+    return events.stream().
+        filter(event -> event.getEventType().getName().equals(name)).
+        sorted(Comparator.comparing(RecordedEvent::getStartTime)).
+        collect(Collectors.toList());
+  }
+
+  @Test
+  public void testEvents() throws Exception {
+    List<RecordedEvent> events = record(TestSuite.create("my_suite").
+        before(context -> {}).
+        test("my_test", context -> {
+          Async async = context.async(2);
+          vertx.setTimer(20, id -> {
+            async.countDown();
+            async.countDown();
+          });
+        }).
+        test("my_failing_test", context -> context.fail("the_failure")).
+        afterEach(context -> {}));
+    List<RecordedEvent> suites = events(events, "io.vertx.unit.TestSuite");
+    assertEquals(1, suites.size());
+    assertEquals("my_suite", suites.get(0).getString("name"));
+    assertEquals(2, suites.get(0).getInt("tests"));
+    assertNull(suites.get(0).getString("failure"));
+    List<RecordedEvent> tests = events(events, "io.vertx.unit.TestCase");
+    assertEquals(2, tests.size());
+    assertEquals("my_test", tests.get(0).getString("name"));
+    assertTrue(tests.get(0).getBoolean("succeeded"));
+    assertTrue(tests.get(0).getDuration().toMillis() >= 20);
+    assertEquals("my_failing_test", tests.get(1).getString("name"));
+    assertFalse(tests.get(1).getBoolean("succeeded"));
+    assertTrue(tests.get(1).getString("failure").contains("the_failure"));
+    List<String> phases = events(events, "io.vertx.unit.TestPhase").stream().
+        map(event -> event.getString("name") + "/" + event.getString("phase")).
+        collect(Collectors.toList());
+    assertTrue(phases.contains("my_suite/before"));
+    assertTrue(phases.contains("my_test/test"));
+    assertTrue(phases.contains("my_test/afterEach"));
+    assertTrue(phases.contains("my_failing_test/test"));
+    assertTrue(events(events, "io.vertx.unit.AsyncLifecycle").stream().
+        anyMatch(event -> event.getInt("count") == 2 && event.getBoolean("succeeded")));
+  }
+}
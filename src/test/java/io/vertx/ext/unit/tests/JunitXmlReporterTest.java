@@ -20,7 +20,9 @@ import java.text.ParseException;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -205,4 +207,82 @@ public class JunitXmlReporterTest extends AsyncTestBase {
     assertEquals("the_before_failure", testCase2FailureElt.getAttribute("message"));
     testComplete();
   }
+
+  @org.junit.Test
+  public void testReportPerformanceFailure() throws Exception {
+    String testSuiteName = TestUtils.randomAlphaString(10);
+    String testCaseName1 = TestUtils.randomAlphaString(10);
+    TestSuiteImpl suite = (TestSuiteImpl) TestSuite.create(testSuiteName).
+        test(testCaseName1, context -> context.assertThroughput(10, 1000).atLeast(100));
+    JunitXmlFormatter reporter = new JunitXmlFormatter(this::reportTo);
+    suite.runner().setReporter(new TestCompletionImpl(reporter)).run();
+    latch.await(10, TimeUnit.SECONDS);
+    Element testsuiteElt = doc.getDocumentElement();
+    assertEquals("0", testsuiteElt.getAttribute("errors"));
+    assertEquals("1", testsuiteElt.getAttribute("failures"));
+    Element testCase1Elt = (Element) testsuiteElt.getElementsByTagName("testcase").item(0);
+    Element testCase1FailureElt = (Element) testCase1Elt.getElementsByTagName("failure").item(0);
+    assertEquals("PerformanceAssertionError", testCase1FailureElt.getAttribute("type"));
+    testComplete();
+  }
+
+  @org.junit.Test
+  public void testReportMetrics() throws Exception {
+    String testSuiteName = TestUtils.randomAlphaString(10);
+    String testCaseName1 = TestUtils.randomAlphaString(10);
+    TestSuiteImpl suite = (TestSuiteImpl) TestSuite.create(testSuiteName).
+        test(testCaseName1, context -> context.increment("hits").record("latency", 4));
+    JunitXmlFormatter reporter = new JunitXmlFormatter(this::reportTo);
+    suite.runner().setReporter(new TestCompletionImpl(reporter)).run();
+    latch.await(10, TimeUnit.SECONDS);
+    Element testsuiteElt = doc.getDocumentElement();
+    Element testCase1Elt = (Element) testsuiteElt.getElementsByTagName("testcase").item(0);
+    Element propertiesElt = (Element) testCase1Elt.getElementsByTagName("properties").item(0);
+    NodeList propertyElts = propertiesElt.getElementsByTagName("property");
+    Map<String, String> properties = new HashMap<>();
+    for (int i = 0;i < propertyElts.getLength();i++) {
+      Element propertyElt = (Element) propertyElts.item(i);
+      properties.put(propertyElt.getAttribute("name"), propertyElt.getAttribute("value"));
+    }
+    assertEquals("1", properties.get("hits"));
+    assertEquals("1", properties.get("latency.count"));
+    assertEquals("4", properties.get("latency.max"));
+    testComplete();
+  }
+
+  private static Map<String, String> properties(Element elt) {
+    Map<String, String> properties = new HashMap<>();
+    NodeList propertiesElts = elt.getElementsByTagName("properties");
+    if (propertiesElts.getLength() > 0) {
+      NodeList propertyElts = ((Element) propertiesElts.item(0)).getElementsByTagName("property");
+      for (int i = 0;i < propertyElts.getLength();i++) {
+        Element propertyElt = (Element) propertyElts.item(i);
+        properties.put(propertyElt.getAttribute("name"), propertyElt.getAttribute("value"));
+      }
+    }
+    return properties;
+  }
+
+  @org.junit.Test
+  public void testReportPhases() throws Exception {
+    String testSuiteName = TestUtils.randomAlphaString(10);
+    String testCaseName1 = TestUtils.randomAlphaString(10);
+    TestSuiteImpl suite = (TestSuiteImpl) TestSuite.create(testSuiteName).
+        before(context -> {}).
+        beforeEach(context -> {}).
+        test(testCaseName1, context -> {});
+    JunitXmlFormatter reporter = new JunitXmlFormatter(this::reportTo);
+    suite.runner().setReporter(new TestCompletionImpl(reporter)).run();
+    latch.await(10, TimeUnit.SECONDS);
+    Element testsuiteElt = doc.getDocumentElement();
+    Map<String, String> suiteProperties = properties(testsuiteElt);
+    assertNotNull(suiteProperties.get("beforeTime"));
+    assertNull(suiteProperties.get("afterTime"));
+    Element testCase1Elt = (Element) testsuiteElt.getElementsByTagName("testcase").item(0);
+    Map<String, String> properties = properties(testCase1Elt);
+    assertNotNull(properties.get("beforeEachTime"));
+    assertNotNull(properties.get("testTime"));
+    assertNull(properties.get("afterEachTime"));
+    testComplete();
+  }
 }
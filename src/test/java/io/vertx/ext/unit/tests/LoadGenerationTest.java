@@ -0,0 +1,75 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Histogram;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LoadGenerationTest extends VertxTestBase {
+
+  @Test
+  public void testHistogram() {
+    Histogram histogram = Histogram.create();
+    assertEquals(0, histogram.count());
+    assertEquals(0, histogram.valueAtPercentile(99));
+    for (int i = 1;i <= 1000;i++) {
+      histogram.record(i * 1000L);
+    }
+    assertEquals(1000, histogram.count());
+    assertEquals(1000, histogram.min());
+    assertEquals(1_000_000, histogram.max());
+    assertEquals(500_500, histogram.mean(), 0.1);
+    assertEquals(500_000, histogram.valueAtPercentile(50), 5_000);
+    assertEquals(990_000, histogram.valueAtPercentile(99), 9_900);
+    assertEquals(1_000_000, histogram.valueAtPercentile(100));
+    JsonObject json = histogram.toJson();
+    assertEquals(1000L, (long) json.getLong("count"));
+    assertEquals(histogram.valueAtPercentile(99), (long) json.getLong("p99"));
+  }
+
+  @Test
+  public void testGenerateLoad() {
+    AtomicInteger count = new AtomicInteger();
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> {
+      context.generateLoad("load", 1000, 200, TimeUnit.MILLISECONDS, () -> {
+        count.incrementAndGet();
+        return Future.succeededFuture();
+      }).onComplete(context.asyncAssertSuccess(histogram -> {
+        context.assertEquals(200L, histogram.count());
+      }));
+    });
+    ((TestSuiteImpl) suite).runner().setVertx(vertx).setReporter(reporter).run();
+    reporter.await();
+    assertEquals(200, count.get());
+    assertEquals(1, reporter.results.size());
+    TestResult result = reporter.results.get(0);
+    assertTrue(result.succeeded());
+    JsonObject metrics = result.metrics();
+    assertEquals(1000L, (long) metrics.getLong("load.targetRate"));
+    assertEquals(200L, (long) metrics.getLong("load.sent"));
+    assertEquals(0L, (long) metrics.getLong("load.failed"));
+    assertTrue(metrics.getDouble("load.achievedRate") > 0);
+    assertTrue(metrics.containsKey("load.latency.p99"));
+  }
+
+  @Test
+  public void testGenerateLoadRequiresContext() {
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> {
+      context.generateLoad("load", 1000, 100, TimeUnit.MILLISECONDS, Future::succeededFuture);
+    });
+    ((TestSuiteImpl) suite).runner().setUseEventLoop(false).setReporter(reporter).run();
+    reporter.await();
+    assertEquals(1, reporter.results.size());
+    assertTrue(reporter.results.get(0).failed());
+    assertTrue(reporter.results.get(0).failure().cause() instanceof IllegalStateException);
+  }
+}
@@ -0,0 +1,80 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+public class MetricsTest extends VertxTestBase {
+
+  @Test
+  public void testRecordAndIncrement() {
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> {
+      context.increment("hits").increment("hits");
+      context.record("latency", 5).record("latency", 1).record("latency", 9);
+    });
+    ((TestSuiteImpl) suite).runner().setReporter(reporter).run();
+    reporter.await();
+    assertEquals(1, reporter.results.size());
+    TestResult result = reporter.results.get(0);
+    assertTrue(result.succeeded());
+    JsonObject metrics = result.metrics();
+    assertEquals(2L, (long) metrics.getLong("hits"));
+    assertEquals(3L, (long) metrics.getLong("latency.count"));
+    assertEquals(15L, (long) metrics.getLong("latency.sum"));
+    assertEquals(1L, (long) metrics.getLong("latency.min"));
+    assertEquals(9L, (long) metrics.getLong("latency.max"));
+  }
+
+  @Test
+  public void testRecordFromManyThreads() {
+    int numThreads = 8;
+    int numValues = 1000;
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async(numThreads);
+      for (int i = 0;i < numThreads;i++) {
+        new Thread(() -> {
+          for (int j = 1;j <= numValues;j++) {
+            context.increment("ops");
+            context.record("value", j);
+          }
+          async.countDown();
+        }).start();
+      }
+    });
+    ((TestSuiteImpl) suite).runner().setReporter(reporter).run();
+    reporter.await();
+    TestResult result = reporter.results.get(0);
+    assertTrue(result.succeeded());
+    JsonObject metrics = result.metrics();
+    assertEquals((long) numThreads * numValues, (long) metrics.getLong("ops"));
+    assertEquals((long) numThreads * numValues, (long) metrics.getLong("value.count"));
+    assertEquals((long) numThreads * numValues * (numValues + 1) / 2, (long) metrics.getLong("value.sum"));
+    assertEquals(1L, (long) metrics.getLong("value.min"));
+    assertEquals((long) numValues, (long) metrics.getLong("value.max"));
+  }
+
+  @Test
+  public void testAggregateRepetitions() {
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", 3, context -> context.increment("runs"));
+    ((TestSuiteImpl) suite).runner().setReporter(reporter).run();
+    reporter.await();
+    assertEquals(1, reporter.results.size());
+    assertEquals(3L, (long) reporter.results.get(0).metrics().getLong("runs"));
+  }
+
+  @Test
+  public void testNoMetrics() {
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> {});
+    ((TestSuiteImpl) suite).runner().setReporter(reporter).run();
+    reporter.await();
+    assertTrue(reporter.results.get(0).metrics().isEmpty());
+  }
+}
@@ -0,0 +1,147 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.net.NetClient;
+import io.vertx.core.net.NetServer;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.TestMetricsFactory;
+import io.vertx.ext.unit.TestOptions;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestContextImpl;
+import io.vertx.ext.unit.junit.RunTestOnContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class NetworkUsageTest extends VertxTestBase {
+
+  private Vertx metricsVertx;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    metricsVertx = Vertx.builder()
+        .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+        .withMetrics(new TestMetricsFactory())
+        .build();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    metricsVertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    super.tearDown();
+  }
+
+  @Test
+  public void testHttp() throws Exception {
+    HttpServer server = metricsVertx.createHttpServer().
+        requestHandler(req -> req.response().end("hello")).
+        listen(0, "localhost").toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    HttpClient client = metricsVertx.createHttpClient();
+    TestResult result = TestReporter.run(metricsVertx, TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async();
+      client.request(HttpMethod.GET, server.actualPort(), "localhost", "/").
+          compose(req -> req.send().compose(HttpClientResponse::body)).
+          compose(body -> client.request(HttpMethod.GET, server.actualPort(), "localhost", "/")).
+          compose(req -> req.send().compose(HttpClientResponse::body)).
+          onComplete(context.asyncAssertSuccess(body -> {
+            context.assertEquals("hello", body.toString());
+            async.complete();
+          }));
+    }), new TestOptions());
+    assertTrue(result.succeeded());
+    JsonObject metrics = result.metrics();
+    // The second request reuses the connection
+    assertEquals(1L, (long) metrics.getLong("http.client.connections"));
+    assertEquals(1L, (long) metrics.getLong("http.server.connections"));
+    assertTrue(metrics.getLong("http.client.bytesWritten") > 0);
+    assertTrue(metrics.getLong("http.client.bytesRead") > 0);
+    assertTrue(metrics.getLong("http.server.bytesRead") > 0);
+  }
+
+  @Test
+  public void testNet() throws Exception {
+    NetServer server = metricsVertx.createNetServer().
+        connectHandler(so -> so.handler(so::write)).
+        listen(0, "localhost").toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    TestResult result = TestReporter.run(metricsVertx, TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async();
+      NetClient client = metricsVertx.createNetClient();
+      client.connect(server.actualPort(), "localhost").onComplete(context.asyncAssertSuccess(so -> {
+        Buffer received = Buffer.buffer();
+        so.handler(buff -> {
+          received.appendBuffer(buff);
+          if (received.length() == 4) {
+            async.complete();
+          }
+        });
+        so.write("ping");
+      }));
+    }), new TestOptions());
+    assertTrue(result.succeeded());
+    JsonObject metrics = result.metrics();
+    assertEquals(1L, (long) metrics.getLong("net.client.connections"));
+    assertEquals(4L, (long) metrics.getLong("net.client.bytesWritten"));
+    assertEquals(4L, (long) metrics.getLong("net.client.bytesRead"));
+    assertEquals(4L, (long) metrics.getLong("net.server.bytesRead"));
+    assertEquals(4L, (long) metrics.getLong("net.server.bytesWritten"));
+  }
+
+  @Test
+  public void testWithoutTestMetrics() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {}), new TestOptions());
+    assertTrue(result.succeeded());
+    assertFalse(result.metrics().containsKey("net.client.connections"));
+  }
+
+  private static final AtomicReference<TestContextImpl> junitContext = new AtomicReference<>();
+
+  public static class RunTestOnContextTestSuite {
+    @Rule
+    public final RunTestOnContext rule = new RunTestOnContext(() -> Vertx.builder()
+        .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+        .withMetrics(new TestMetricsFactory())
+        .build());
+    @Test
+    public void method(TestContext context) {
+      junitContext.set((TestContextImpl) context);
+      Vertx vertx = rule.vertx();
+      Async async = context.async();
+      vertx.createNetServer().
+          connectHandler(so -> so.handler(so::write)).
+          listen(0, "localhost").
+          compose(server -> vertx.createNetClient().connect(server.actualPort(), "localhost")).
+          onComplete(context.asyncAssertSuccess(so -> {
+            so.handler(buff -> async.complete());
+            so.write("ping");
+          }));
+    }
+  }
+
+  @Test
+  public void testRunTestOnContext() throws Exception {
+    Result result = new JUnitCore().run(new VertxUnitRunner(RunTestOnContextTestSuite.class));
+    assertEquals(1, result.getRunCount());
+    assertEquals(0, result.getFailureCount());
+    JsonObject metrics = junitContext.get().metrics().toJson();
+    assertEquals(1L, (long) metrics.getLong("net.client.connections"));
+    assertEquals(4L, (long) metrics.getLong("net.client.bytesWritten"));
+    assertFalse(metrics.containsKey("eventLoop.lag.samples"));
+  }
+}
@@ -34,13 +34,69 @@ public class OptionsTest {
     TestOptions options = new TestOptions();
     assertEquals(TestOptions.DEFAULT_TIMEOUT, options.getTimeout());
     assertEquals(TestOptions.DEFAULT_USE_EVENT_LOOP, options.isUseEventLoop());
+    assertEquals(TestOptions.DEFAULT_SAMPLE_EVENT_LOOP_LAG, options.isSampleEventLoopLag());
+    assertEquals(TestOptions.DEFAULT_MAX_EVENT_LOOP_LAG, options.getMaxEventLoopLag());
+    assertEquals(TestOptions.DEFAULT_MAX_BLOCKED_THREAD_TIME, options.getMaxBlockedThreadTime());
+    assertEquals(TestOptions.DEFAULT_FAIL_ON_BLOCKED_THREAD, options.isFailOnBlockedThread());
+    assertEquals(TestOptions.DEFAULT_DETECT_BUFFER_LEAKS, options.isDetectBufferLeaks());
+    assertEquals(TestOptions.DEFAULT_DETECT_THREAD_LEAKS, options.isDetectThreadLeaks());
+    assertEquals(TestOptions.DEFAULT_FAIL_ON_THREAD_LEAK, options.isFailOnThreadLeak());
+    assertEquals(TestOptions.DEFAULT_THREAD_LEAK_GRACE_PERIOD, options.getThreadLeakGracePeriod());
+    assertEquals(TestOptions.DEFAULT_DETECT_VERTX_LEAKS, options.isDetectVertxLeaks());
+    assertEquals(TestOptions.DEFAULT_PROFILING_INTERVAL, options.getProfilingInterval());
+    assertEquals(TestOptions.DEFAULT_TIMEOUT_DIAGNOSTICS, options.isTimeoutDiagnostics());
+    assertEquals(TestOptions.DEFAULT_STALL_TIMEOUT, options.getStallTimeout());
+    assertEquals(TestOptions.DEFAULT_TRACE_ASYNCS, options.isTraceAsyncs());
+    assertEquals(TestOptions.DEFAULT_MEASURE_EVENT_BUS, options.isMeasureEventBus());
     assertEquals(Collections.<ReportOptions>emptyList(), options.getReporters());
     long timeout = TestUtils.randomLong();
     Boolean useEventLoop = randomBoolean();
+    boolean sampleEventLoopLag = TestUtils.randomBoolean();
+    long maxEventLoopLag = TestUtils.randomPositiveLong();
+    long maxBlockedThreadTime = TestUtils.randomPositiveLong();
+    boolean failOnBlockedThread = TestUtils.randomBoolean();
+    boolean detectBufferLeaks = TestUtils.randomBoolean();
+    boolean detectThreadLeaks = TestUtils.randomBoolean();
+    boolean failOnThreadLeak = TestUtils.randomBoolean();
+    long threadLeakGracePeriod = TestUtils.randomPositiveLong();
+    boolean detectVertxLeaks = TestUtils.randomBoolean();
+    long profilingInterval = TestUtils.randomPositiveLong();
+    boolean timeoutDiagnostics = TestUtils.randomBoolean();
+    long stallTimeout = TestUtils.randomPositiveLong();
+    boolean traceAsyncs = TestUtils.randomBoolean();
+    boolean measureEventBus = TestUtils.randomBoolean();
     assertSame(options, options.setTimeout(timeout));
     assertSame(options, options.setUseEventLoop(useEventLoop));
+    assertSame(options, options.setSampleEventLoopLag(sampleEventLoopLag));
+    assertSame(options, options.setMaxEventLoopLag(maxEventLoopLag));
+    assertSame(options, options.setMaxBlockedThreadTime(maxBlockedThreadTime));
+    assertSame(options, options.setFailOnBlockedThread(failOnBlockedThread));
+    assertSame(options, options.setDetectBufferLeaks(detectBufferLeaks));
+    assertSame(options, options.setDetectThreadLeaks(detectThreadLeaks));
+    assertSame(options, options.setFailOnThreadLeak(failOnThreadLeak));
+    assertSame(options, options.setThreadLeakGracePeriod(threadLeakGracePeriod));
+    assertSame(options, options.setDetectVertxLeaks(detectVertxLeaks));
+    assertSame(options, options.setProfilingInterval(profilingInterval));
+    assertSame(options, options.setTimeoutDiagnostics(timeoutDiagnostics));
+    assertSame(options, options.setStallTimeout(stallTimeout));
+    assertSame(options, options.setTraceAsyncs(traceAsyncs));
+    assertSame(options, options.setMeasureEventBus(measureEventBus));
     assertEquals(timeout, options.getTimeout());
     assertEquals(useEventLoop, options.isUseEventLoop());
+    assertEquals(sampleEventLoopLag, options.isSampleEventLoopLag());
+    assertEquals(maxEventLoopLag, options.getMaxEventLoopLag());
+    assertEquals(maxBlockedThreadTime, options.getMaxBlockedThreadTime());
+    assertEquals(failOnBlockedThread, options.isFailOnBlockedThread());
+    assertEquals(detectBufferLeaks, options.isDetectBufferLeaks());
+    assertEquals(detectThreadLeaks, options.isDetectThreadLeaks());
+    assertEquals(failOnThreadLeak, options.isFailOnThreadLeak());
+    assertEquals(threadLeakGracePeriod, options.getThreadLeakGracePeriod());
+    assertEquals(detectVertxLeaks, options.isDetectVertxLeaks());
+    assertEquals(profilingInterval, options.getProfilingInterval());
+    assertEquals(timeoutDiagnostics, options.isTimeoutDiagnostics());
+    assertEquals(stallTimeout, options.getStallTimeout());
+    assertEquals(traceAsyncs, options.isTraceAsyncs());
+    assertEquals(measureEventBus, options.isMeasureEventBus());
     List<ReportOptions> reporters = new ArrayList<>();
     ReportOptions reporter1 = new ReportOptions();
     reporters.add(reporter1);
@@ -76,15 +132,54 @@ public class OptionsTest {
     String at = TestUtils.randomAlphaString(10);
     String format = TestUtils.randomAlphaString(10);
     ReportOptions reporter = new ReportOptions().setTo(to).setFormat(format);
-    options.setUseEventLoop(useEventLoop).setTimeout(timeout).addReporter(reporter);
+    long maxEventLoopLag = TestUtils.randomPositiveLong();
+    long maxBlockedThreadTime = TestUtils.randomPositiveLong();
+    long threadLeakGracePeriod = TestUtils.randomPositiveLong();
+    long profilingInterval = TestUtils.randomPositiveLong();
+    long stallTimeout = TestUtils.randomPositiveLong();
+    options.setUseEventLoop(useEventLoop).setTimeout(timeout).setSampleEventLoopLag(true).
+        setMaxEventLoopLag(maxEventLoopLag).
+        setMaxBlockedThreadTime(maxBlockedThreadTime).setFailOnBlockedThread(true).setDetectBufferLeaks(true).
+        setDetectThreadLeaks(true).setFailOnThreadLeak(true).setThreadLeakGracePeriod(threadLeakGracePeriod).
+        setDetectVertxLeaks(true).setProfilingInterval(profilingInterval).
+        setTimeoutDiagnostics(true).setStallTimeout(stallTimeout).setTraceAsyncs(true).
+        setMeasureEventBus(true).addReporter(reporter);
     TestOptions copy = new TestOptions(options);
     options.setTimeout(TestUtils.randomLong());
+    options.setSampleEventLoopLag(false);
+    options.setMaxEventLoopLag(TestUtils.randomPositiveLong());
+    options.setMaxBlockedThreadTime(TestUtils.randomPositiveLong());
+    options.setFailOnBlockedThread(false);
+    options.setDetectBufferLeaks(false);
+    options.setDetectThreadLeaks(false);
+    options.setFailOnThreadLeak(false);
+    options.setThreadLeakGracePeriod(TestUtils.randomPositiveLong());
+    options.setDetectVertxLeaks(false);
+    options.setProfilingInterval(TestUtils.randomPositiveLong());
+    options.setTimeoutDiagnostics(false);
+    options.setStallTimeout(TestUtils.randomPositiveLong());
+    options.setTraceAsyncs(false);
+    options.setMeasureEventBus(false);
     options.setUseEventLoop(randomBoolean());
     reporter.setTo(TestUtils.randomAlphaString(10));
     reporter.setFormat(TestUtils.randomAlphaString(10));
     options.getReporters().clear();
     assertEquals(timeout, copy.getTimeout());
     assertEquals(useEventLoop, copy.isUseEventLoop());
+    assertTrue(copy.isSampleEventLoopLag());
+    assertEquals(maxEventLoopLag, copy.getMaxEventLoopLag());
+    assertEquals(maxBlockedThreadTime, copy.getMaxBlockedThreadTime());
+    assertTrue(copy.isFailOnBlockedThread());
+    assertTrue(copy.isDetectBufferLeaks());
+    assertTrue(copy.isDetectThreadLeaks());
+    assertTrue(copy.isFailOnThreadLeak());
+    assertEquals(threadLeakGracePeriod, copy.getThreadLeakGracePeriod());
+    assertTrue(copy.isDetectVertxLeaks());
+    assertEquals(profilingInterval, copy.getProfilingInterval());
+    assertTrue(copy.isTimeoutDiagnostics());
+    assertEquals(stallTimeout, copy.getStallTimeout());
+    assertTrue(copy.isTraceAsyncs());
+    assertTrue(copy.isMeasureEventBus());
     assertEquals(1, copy.getReporters().size());
     assertEquals(to, copy.getReporters().get(0).getTo());
     assertEquals(format, copy.getReporters().get(0).getFormat());
@@ -96,6 +191,20 @@ public class OptionsTest {
     TestOptions json = new TestOptions(new JsonObject());
     assertEquals(json.getTimeout(), def.getTimeout());
     assertEquals(json.isUseEventLoop(), def.isUseEventLoop());
+    assertEquals(json.isSampleEventLoopLag(), def.isSampleEventLoopLag());
+    assertEquals(json.getMaxEventLoopLag(), def.getMaxEventLoopLag());
+    assertEquals(json.getMaxBlockedThreadTime(), def.getMaxBlockedThreadTime());
+    assertEquals(json.isFailOnBlockedThread(), def.isFailOnBlockedThread());
+    assertEquals(json.isDetectBufferLeaks(), def.isDetectBufferLeaks());
+    assertEquals(json.isDetectThreadLeaks(), def.isDetectThreadLeaks());
+    assertEquals(json.isFailOnThreadLeak(), def.isFailOnThreadLeak());
+    assertEquals(json.getThreadLeakGracePeriod(), def.getThreadLeakGracePeriod());
+    assertEquals(json.isDetectVertxLeaks(), def.isDetectVertxLeaks());
+    assertEquals(json.getProfilingInterval(), def.getProfilingInterval());
+    assertEquals(json.isTimeoutDiagnostics(), def.isTimeoutDiagnostics());
+    assertEquals(json.getStallTimeout(), def.getStallTimeout());
+    assertEquals(json.isTraceAsyncs(), def.isTraceAsyncs());
+    assertEquals(json.isMeasureEventBus(), def.isMeasureEventBus());
     assertEquals(json.getReporters(), def.getReporters());
   }
 
@@ -115,7 +224,35 @@ public class OptionsTest {
     String to = TestUtils.randomAlphaString(10);
     String at = TestUtils.randomAlphaString(10);
     String format = TestUtils.randomAlphaString(10);
+    boolean sampleEventLoopLag = TestUtils.randomBoolean();
+    long maxEventLoopLag = TestUtils.randomPositiveLong();
+    long maxBlockedThreadTime = TestUtils.randomPositiveLong();
+    boolean failOnBlockedThread = TestUtils.randomBoolean();
+    boolean detectBufferLeaks = TestUtils.randomBoolean();
+    boolean detectThreadLeaks = TestUtils.randomBoolean();
+    boolean failOnThreadLeak = TestUtils.randomBoolean();
+    long threadLeakGracePeriod = TestUtils.randomPositiveLong();
+    boolean detectVertxLeaks = TestUtils.randomBoolean();
+    long profilingInterval = TestUtils.randomPositiveLong();
+    boolean timeoutDiagnostics = TestUtils.randomBoolean();
+    long stallTimeout = TestUtils.randomPositiveLong();
+    boolean traceAsyncs = TestUtils.randomBoolean();
+    boolean measureEventBus = TestUtils.randomBoolean();
     json.put("timeout", timeout);
+    json.put("sampleEventLoopLag", sampleEventLoopLag);
+    json.put("maxEventLoopLag", maxEventLoopLag);
+    json.put("maxBlockedThreadTime", maxBlockedThreadTime);
+    json.put("failOnBlockedThread", failOnBlockedThread);
+    json.put("detectBufferLeaks", detectBufferLeaks);
+    json.put("detectThreadLeaks", detectThreadLeaks);
+    json.put("failOnThreadLeak", failOnThreadLeak);
+    json.put("threadLeakGracePeriod", threadLeakGracePeriod);
+    json.put("detectVertxLeaks", detectVertxLeaks);
+    json.put("profilingInterval", profilingInterval);
+    json.put("timeoutDiagnostics", timeoutDiagnostics);
+    json.put("stallTimeout", stallTimeout);
+    json.put("traceAsyncs", traceAsyncs);
+    json.put("measureEventBus", measureEventBus);
     if (useEventLoop != null) {
       json.put("useEventLoop", useEventLoop);
     }
@@ -127,6 +264,20 @@ public class OptionsTest {
     TestOptions options = new TestOptions(json);
     assertEquals(timeout, options.getTimeout());
     assertEquals(useEventLoop, options.isUseEventLoop());
+    assertEquals(sampleEventLoopLag, options.isSampleEventLoopLag());
+    assertEquals(maxEventLoopLag, options.getMaxEventLoopLag());
+    assertEquals(maxBlockedThreadTime, options.getMaxBlockedThreadTime());
+    assertEquals(failOnBlockedThread, options.isFailOnBlockedThread());
+    assertEquals(detectBufferLeaks, options.isDetectBufferLeaks());
+    assertEquals(detectThreadLeaks, options.isDetectThreadLeaks());
+    assertEquals(failOnThreadLeak, options.isFailOnThreadLeak());
+    assertEquals(threadLeakGracePeriod, options.getThreadLeakGracePeriod());
+    assertEquals(detectVertxLeaks, options.isDetectVertxLeaks());
+    assertEquals(profilingInterval, options.getProfilingInterval());
+    assertEquals(timeoutDiagnostics, options.isTimeoutDiagnostics());
+    assertEquals(stallTimeout, options.getStallTimeout());
+    assertEquals(traceAsyncs, options.isTraceAsyncs());
+    assertEquals(measureEventBus, options.isMeasureEventBus());
     assertEquals(1, options.getReporters().size());
     assertEquals(to, options.getReporters().get(0).getTo());
     assertEquals(format, options.getReporters().get(0).getFormat());
@@ -0,0 +1,104 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestCompletionImpl;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
+import io.vertx.ext.unit.report.impl.OtlpJsonFormatter;
+import io.vertx.ext.unit.report.impl.ReportStream;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class OtlpJsonFormatterTest extends VertxTestBase {
+
+  private final CountDownLatch latch = new CountDownLatch(1);
+  private final Buffer output = Buffer.buffer();
+
+  private ReportStream reportTo(String name) {
+    return new ReportStream() {
+      @Override
+      public void info(Buffer msg) {
+        output.appendBuffer(msg);
+      }
+      @Override
+      public void end() {
+        latch.countDown();
+      }
+    };
+  }
+
+  private static Map<String, Object> attributes(JsonObject span) {
+    Map<String, Object> attributes = new HashMap<>();
+    JsonArray array = span.getJsonArray("attributes");
+    for (int i = 0;i < array.size();i++) {
+      JsonObject attribute = array.getJsonObject(i);
+      JsonObject value = attribute.getJsonObject("value");
+      attributes.put(attribute.getString("key"), value.getValue(value.fieldNames().iterator().next()));
+    }
+    return attributes;
+  }
+
+  @Test
+  public void testSpans() throws Exception {
+    AtomicReference<Object> traceParent = new AtomicReference<>();
+    TestSuiteImpl suite = (TestSuiteImpl) TestSuite.create("my_suite").
+        beforeEach(context -> {}).
+        test("my_test", context -> {
+          traceParent.set(((ContextInternal) Vertx.currentContext()).localContextData().get(OtlpJsonFormatter.TRACE_PARENT));
+        }).
+        test("my_other_test", context -> context.fail("the_failure"));
+    OtlpJsonFormatter reporter = new OtlpJsonFormatter(this::reportTo);
+    suite.runner().setVertx(vertx).setReporter(new TestCompletionImpl(reporter)).run();
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    List<JsonObject> spans = new ArrayList<>();
+    for (String line : output.toString().split("\n")) {
+      JsonObject request = new JsonObject(line);
+      JsonObject resourceSpans = request.getJsonArray("resourceSpans").getJsonObject(0);
+      JsonObject scopeSpans = resourceSpans.getJsonArray("scopeSpans").getJsonObject(0);
+      assertEquals("io.vertx.ext.unit", scopeSpans.getJsonObject("scope").getString("name"));
+      spans.add(scopeSpans.getJsonArray("spans").getJsonObject(0));
+    }
+    assertEquals(3, spans.size());
+    JsonObject test = spans.get(0);
+    JsonObject otherTest = spans.get(1);
+    JsonObject suiteSpan = spans.get(2);
+    assertEquals("my_test", test.getString("name"));
+    assertEquals("my_other_test", otherTest.getString("name"));
+    assertEquals("my_suite", suiteSpan.getString("name"));
+    assertNull(suiteSpan.getString("parentSpanId"));
+    assertEquals(32, suiteSpan.getString("traceId").length());
+    assertEquals(16, suiteSpan.getString("spanId").length());
+    for (JsonObject span : new JsonObject[] { test, otherTest }) {
+      assertEquals(suiteSpan.getString("traceId"), span.getString("traceId"));
+      assertEquals(suiteSpan.getString("spanId"), span.getString("parentSpanId"));
+      assertTrue(Long.parseLong(span.getString("endTimeUnixNano")) >= Long.parseLong(span.getString("startTimeUnixNano")));
+    }
+    assertEquals("00-" + test.getString("traceId") + "-" + test.getString("spanId") + "-01", traceParent.get());
+    Map<String, Object> testAttributes = attributes(test);
+    assertEquals("pass", testAttributes.get("test.case.result.status"));
+    assertNotNull(testAttributes.get("vertx.unit.before_each.duration_ms"));
+    assertNotNull(testAttributes.get("vertx.unit.test.duration_ms"));
+    assertNull(testAttributes.get("vertx.unit.after_each.duration_ms"));
+    assertEquals(1, (int) test.getJsonObject("status").getInteger("code"));
+    Map<String, Object> otherTestAttributes = attributes(otherTest);
+    assertEquals("fail", otherTestAttributes.get("test.case.result.status"));
+    assertEquals(AssertionError.class.getName(), otherTestAttributes.get("exception.type"));
+    assertEquals("the_failure", otherTestAttributes.get("exception.message"));
+    assertEquals(2, (int) otherTest.getJsonObject("status").getInteger("code"));
+    Map<String, Object> suiteAttributes = attributes(suiteSpan);
+    assertEquals("failure", suiteAttributes.get("test.suite.run.status"));
+    assertEquals("2", suiteAttributes.get("vertx.unit.tests"));
+  }
+}
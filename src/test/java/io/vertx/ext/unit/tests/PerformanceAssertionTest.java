@@ -0,0 +1,95 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Histogram;
+import io.vertx.ext.unit.PerformanceAssertionError;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.FailureImpl;
+import io.vertx.ext.unit.report.Failure;
+import io.vertx.ext.unit.report.TestResult;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class PerformanceAssertionTest {
+
+  private static Histogram histogram() {
+    Histogram histogram = Histogram.create();
+    for (int i = 1;i <= 100;i++) {
+      histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+    }
+    return histogram;
+  }
+
+  @Test
+  public void testLatencyAssertionSucceeds() {
+    TestResult result = TestReporter.run(TestSuite.create("my_suite").test("my_test", context -> {
+      context.assertLatency(histogram()).
+          p50Below(60, TimeUnit.MILLISECONDS).
+          p99Below(110, TimeUnit.MILLISECONDS).
+          maxBelow(1, TimeUnit.SECONDS);
+    }));
+    assertTrue(result.succeeded());
+  }
+
+  @Test
+  public void testLatencyAssertionFails() {
+    TestResult result = TestReporter.run(TestSuite.create("my_suite").test("my_test", context -> {
+      context.assertLatency(histogram()).p99Below(20, TimeUnit.MILLISECONDS);
+    }));
+    assertTrue(result.failed());
+    Failure failure = result.failure();
+    assertFalse(failure.isError());
+    assertTrue(failure.isPerformance());
+    assertTrue(failure.message().startsWith("Expected p99 latency below 20 ms"));
+    PerformanceAssertionError err = (PerformanceAssertionError) failure.cause();
+    JsonObject measurements = err.measurements();
+    assertEquals(100L, (long) measurements.getLong("count"));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(20), (long) measurements.getLong("limit"));
+  }
+
+  @Test
+  public void testPercentileStatistic() {
+    TestResult result = TestReporter.run(TestSuite.create("my_suite").test("my_test", context -> {
+      context.assertLatency(histogram()).percentileBelow(90.05, 20, TimeUnit.MILLISECONDS);
+    }));
+    assertTrue(result.failure().message().startsWith("Expected p90.05 latency below 20 ms"));
+    result = TestReporter.run(TestSuite.create("my_suite").test("my_test", context -> {
+      context.assertLatency(histogram()).percentileBelow(50.0, 20, TimeUnit.MILLISECONDS);
+    }));
+    assertTrue(result.failure().message().startsWith("Expected p50 latency below 20 ms"));
+  }
+
+  @Test
+  public void testThroughputAssertion() {
+    TestResult result = TestReporter.run(TestSuite.create("my_suite").test("my_test", context -> {
+      context.assertThroughput(50_000, 1, TimeUnit.SECONDS).atLeast(40_000).atMost(60_000);
+    }));
+    assertTrue(result.succeeded());
+    result = TestReporter.run(TestSuite.create("my_suite").test("my_test", context -> {
+      context.assertThroughput(50_000, 2000).atLeast(50_000);
+    }));
+    assertTrue(result.failed());
+    assertTrue(result.failure().isPerformance());
+    assertEquals(25_000D, ((PerformanceAssertionError) result.failure().cause()).measurements().getDouble("measured"), 0.1);
+  }
+
+  @Test
+  public void testFunctionalFailureIsNotPerformance() {
+    TestResult result = TestReporter.run(TestSuite.create("my_suite").test("my_test", context -> context.fail("the_failure")));
+    assertTrue(result.failed());
+    assertFalse(result.failure().isPerformance());
+  }
+
+  @Test
+  public void testFailureJson() {
+    FailureImpl failure = new FailureImpl(new PerformanceAssertionError("the_message", new JsonObject().put("p99", 10)));
+    FailureImpl copy = new FailureImpl(failure.toJson());
+    assertTrue(copy.isPerformance());
+    assertFalse(copy.isError());
+    assertEquals("the_message", copy.message());
+    assertTrue(copy.cause() instanceof PerformanceAssertionError);
+  }
+}
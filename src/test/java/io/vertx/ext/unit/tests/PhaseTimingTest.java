@@ -0,0 +1,116 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.AsyncTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PhaseTimingTest extends AsyncTestBase {
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  @Test
+  public void testPhaseTimes() {
+    AtomicLong beforeTime = new AtomicLong();
+    AtomicLong afterTime = new AtomicLong();
+    TestSuite suite = TestSuite.create("my_suite").
+        before(context -> sleep(50)).
+        beforeEach(context -> sleep(100)).
+        test("my_test", context -> {}).
+        afterEach(context -> sleep(50)).
+        after(context -> sleep(100));
+    TestReporter reporter = new TestReporter();
+    ((TestSuiteImpl) suite).runner().setReporter(report -> {
+      reporter.handle(report);
+      report.endHandler(v -> {
+        beforeTime.set(report.beforeTime());
+        afterTime.set(report.afterTime());
+        testComplete();
+      });
+    }).run();
+    await();
+    TestResult result = reporter.results.get(0);
+    assertTrue(result.beforeEachTime() >= 100);
+    assertTrue(result.testTime() >= 0);
+    assertTrue(result.testTime() < 100);
+    assertTrue(result.afterEachTime() >= 50);
+    assertTrue(result.durationTime() >= result.beforeEachTime() + result.testTime() + result.afterEachTime());
+    assertTrue(beforeTime.get() >= 50);
+    assertTrue(afterTime.get() >= 100);
+  }
+
+  @Test
+  public void testNoFixtures() {
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> {});
+    TestReporter reporter = new TestReporter();
+    ((TestSuiteImpl) suite).runner().setReporter(report -> {
+      reporter.handle(report);
+      report.endHandler(v -> {
+        assertEquals(-1, report.beforeTime());
+        assertEquals(-1, report.afterTime());
+        testComplete();
+      });
+    }).run();
+    await();
+    TestResult result = reporter.results.get(0);
+    assertEquals(-1, result.beforeEachTime());
+    assertTrue(result.testTime() >= 0);
+    assertEquals(-1, result.afterEachTime());
+  }
+
+  @Test
+  public void testBeforeEachFailure() {
+    TestSuite suite = TestSuite.create("my_suite").
+        beforeEach(context -> context.fail("the_failure")).
+        test("my_test", context -> {});
+    TestReporter reporter = new TestReporter();
+    ((TestSuiteImpl) suite).runner().setReporter(reporter).run();
+    reporter.await();
+    TestResult result = reporter.results.get(0);
+    assertTrue(result.failed());
+    assertTrue(result.beforeEachTime() >= 0);
+    assertEquals(-1, result.testTime());
+  }
+
+  @Test
+  public void testDurationNanos() {
+    TestSuite suite = TestSuite.create("my_suite").
+        test("my_fast_test", context -> {}).
+        test("my_slow_test", context -> sleep(20));
+    TestReporter reporter = new TestReporter();
+    ((TestSuiteImpl) suite).runner().setReporter(reporter).run();
+    reporter.await();
+    for (TestResult result : reporter.results) {
+      assertTrue(result.durationNanos() > 0);
+      assertEquals(TimeUnit.NANOSECONDS.toMillis(result.durationNanos()), result.durationTime());
+    }
+    assertTrue(reporter.results.get(1).durationNanos() >= 20_000_000);
+  }
+
+  @Test
+  public void testPhaseNanos() {
+    TestSuite suite = TestSuite.create("my_suite").
+        beforeEach(context -> sleep(20)).
+        test("my_test", context -> {});
+    TestReporter reporter = new TestReporter();
+    ((TestSuiteImpl) suite).runner().setReporter(reporter).run();
+    reporter.await();
+    TestResult result = reporter.results.get(0);
+    assertTrue(result.beforeEachNanos() >= 20_000_000);
+    assertEquals(TimeUnit.NANOSECONDS.toMillis(result.beforeEachNanos()), result.beforeEachTime());
+    assertTrue(result.testNanos() >= 0);
+    assertEquals(TimeUnit.NANOSECONDS.toMillis(result.testNanos()), result.testTime());
+    assertEquals(-1, result.afterEachNanos());
+    assertTrue(result.durationNanos() >= result.beforeEachNanos() + result.testNanos());
+  }
+}
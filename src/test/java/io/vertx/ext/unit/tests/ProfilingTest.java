@@ -0,0 +1,116 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystem;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestCompletion;
+import io.vertx.ext.unit.TestOptions;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
+import io.vertx.ext.unit.report.ReportOptions;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.io.File;
+
+public class ProfilingTest extends VertxTestBase {
+
+  private static void spin(long millis) {
+    long deadline = System.nanoTime() + millis * 1_000_000;
+    while (System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private static boolean sampled(TestResult result, String frame) {
+    return result.profile().fieldNames().stream().anyMatch(stack -> stack.contains(frame));
+  }
+
+  @Test
+  public void testProfile() {
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").
+        test("my_test", context -> spin(200)).
+        test("my_other_test", context -> {});
+    ((TestSuiteImpl) suite).runner().setVertx(vertx).setOptions(new TestOptions().setProfilingInterval(5)).setReporter(reporter).run();
+    reporter.await();
+    TestResult result = reporter.results.get(0);
+    assertTrue(sampled(result, ProfilingTest.class.getName() + ".spin"));
+    result.profile().forEach(sample -> assertTrue(((Number) sample.getValue()).longValue() > 0));
+    assertFalse(sampled(reporter.results.get(1), ProfilingTest.class.getName() + ".spin"));
+  }
+
+  @Test
+  public void testIdleThreadsNotSampled() {
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async();
+      vertx.setTimer(200, id -> async.complete());
+    });
+    ((TestSuiteImpl) suite).runner().setVertx(vertx).setOptions(new TestOptions().setProfilingInterval(5)).setReporter(reporter).run();
+    reporter.await();
+    TestResult result = reporter.results.get(0);
+    long samples = result.profile().stream().mapToLong(sample -> ((Number) sample.getValue()).longValue()).sum();
+    assertTrue("Unexpected samples " + result.profile(), samples < 10);
+  }
+
+  @Test
+  public void testNoProfile() {
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> spin(50));
+    ((TestSuiteImpl) suite).runner().setVertx(vertx).setReporter(reporter).run();
+    reporter.await();
+    assertTrue(reporter.results.get(0).profile().isEmpty());
+  }
+
+  @Test
+  public void testWriteProfiles() {
+    FileSystem fs = vertx.fileSystem();
+    String dir = "target";
+    String suitePath = dir + File.separator + "profiled_suite.collapsed";
+    String testPath = dir + File.separator + "profiled_suite.my_test.collapsed";
+    for (String path : new String[] { suitePath, testPath }) {
+      if (fs.existsBlocking(path)) {
+        fs.deleteBlocking(path);
+      }
+    }
+    TestCompletion completion = TestSuite.create("profiled_suite").test("my_test", context -> spin(200)).
+        run(vertx, new TestOptions().setProfilingInterval(5).addReporter(new ReportOptions().setTo("file:" + dir)));
+    completion.awaitSuccess(10000);
+    waitUntil(() -> fs.existsBlocking(suitePath) && fs.propsBlocking(suitePath).size() > 0);
+    Buffer profile = fs.readFileBlocking(testPath);
+    for (String line : profile.toString().split("\n")) {
+      assertTrue(line, line.matches(".+ [0-9]+"));
+    }
+    assertTrue(profile.toString().contains(ProfilingTest.class.getName() + ".spin"));
+  }
+
+  @Test
+  public void testWriteProfilesOncePerLocation() {
+    FileSystem fs = vertx.fileSystem();
+    String dir = "target";
+    String suitePath = dir + File.separator + "shared_suite.collapsed";
+    String testPath = dir + File.separator + "shared_suite.my_test.collapsed";
+    // A previous longer profile is overwritten
+    StringBuilder previous = new StringBuilder();
+    for (int i = 0;i < 10000;i++) {
+      previous.append("previous_frame_").append(i).append('\n');
+    }
+    fs.writeFileBlocking(suitePath, Buffer.buffer(previous.toString()));
+    fs.writeFileBlocking(testPath, Buffer.buffer(previous.toString()));
+    TestCompletion completion = TestSuite.create("shared_suite").test("my_test", context -> spin(200)).
+        run(vertx, new TestOptions().setProfilingInterval(5).
+            addReporter(new ReportOptions().setTo("file:" + dir)).
+            addReporter(new ReportOptions().setTo("file:" + dir).setFormat("junit")));
+    completion.awaitSuccess(10000);
+    waitUntil(() -> !fs.readFileBlocking(suitePath).toString().contains("previous_frame_"));
+    for (String path : new String[] { suitePath, testPath }) {
+      Buffer profile = fs.readFileBlocking(path);
+      for (String line : profile.toString().split("\n")) {
+        assertTrue(line, line.matches(".+ [0-9]+"));
+      }
+      assertTrue(profile.toString().contains(ProfilingTest.class.getName() + ".spin"));
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.PerformanceAssertionError;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestResultImpl;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.ext.unit.report.impl.ReportStream;
+import io.vertx.ext.unit.report.impl.SimpleFormatter;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+
+public class ResourceUsageTest extends VertxTestBase {
+
+  static volatile Object sink;
+
+  static void allocate(int megabytes) {
+    for (int i = 0;i < megabytes;i++) {
+      sink = new byte[1024 * 1024];
+    }
+  }
+
+  @Test
+  public void testAllocatedBytes() {
+    TestResult result = TestReporter.run(TestSuite.create("my_suite").test("my_test", context -> allocate(8)));
+    assertTrue(result.succeeded());
+    assertTrue("Unexpected allocated bytes " + result.allocatedBytes(), result.allocatedBytes() >= 8 * 1024 * 1024);
+  }
+
+  @Test
+  public void testAllocatedBytesOnEventLoop() {
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> {
+      Promise<Void> promise = Promise.promise();
+      promise.future().onComplete(context.asyncAssertSuccess(v -> allocate(8)));
+      vertx.runOnContext(v -> promise.complete());
+    });
+    ((TestSuiteImpl) suite).runner().setVertx(vertx).setReporter(reporter).run();
+    reporter.await();
+    TestResult result = reporter.results.get(0);
+    assertTrue(result.succeeded());
+    assertTrue("Unexpected allocated bytes " + result.allocatedBytes(), result.allocatedBytes() >= 8 * 1024 * 1024);
+  }
+
+  @Test
+  public void testOtherWorkNotCharged() {
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> {
+      context.allocationBudget(4 * 1024 * 1024);
+      Async async = context.async();
+      // Executed by the event loop outside of the test handlers
+      vertx.runOnContext(v -> {
+        allocate(8);
+        async.complete();
+      });
+    });
+    ((TestSuiteImpl) suite).runner().setVertx(vertx).setReporter(reporter).run();
+    reporter.await();
+    TestResult result = reporter.results.get(0);
+    assertTrue(result.succeeded());
+    assertTrue("Unexpected allocated bytes " + result.allocatedBytes(), result.allocatedBytes() < 8 * 1024 * 1024);
+  }
+
+  @Test
+  public void testAllocationBudgetExceeded() {
+    TestResult result = TestReporter.run(TestSuite.create("my_suite").test("my_test", context -> {
+      context.allocationBudget(1024 * 1024);
+      allocate(4);
+    }));
+    assertTrue(result.failed());
+    assertTrue(result.failure().isPerformance());
+    assertTrue(result.failure().cause() instanceof PerformanceAssertionError);
+    PerformanceAssertionError err = (PerformanceAssertionError) result.failure().cause();
+    assertEquals(1024 * 1024L, (long) err.measurements().getLong("allocationBudget"));
+    assertTrue(err.measurements().getLong("allocatedBytes") > 1024 * 1024L);
+  }
+
+  @Test
+  public void testAllocationBudgetNotExceeded() {
+    TestResult result = TestReporter.run(TestSuite.create("my_suite").test("my_test", context -> {
+      context.allocationBudget(64 * 1024 * 1024);
+      allocate(1);
+    }));
+    assertTrue(result.succeeded());
+  }
+
+  @Test
+  public void testInvalidAllocationBudget() {
+    TestResult result = TestReporter.run(TestSuite.create("my_suite").test("my_test", context -> context.allocationBudget(-1)));
+    assertTrue(result.failed());
+    assertTrue(result.failure().cause() instanceof IllegalArgumentException);
+  }
+
+  public static class AllocationBudgetTestSuite {
+    @Test
+    public void testMethod(TestContext context) {
+      context.allocationBudget(1024 * 1024);
+      allocate(4);
+    }
+  }
+
+  @Test
+  public void testJUnitAllocationBudget() throws Exception {
+    Result result = new JUnitCore().run(new VertxUnitRunner(AllocationBudgetTestSuite.class));
+    assertEquals(1, result.getFailureCount());
+    assertTrue(result.getFailures().get(0).getException() instanceof PerformanceAssertionError);
+  }
+
+  @Test
+  public void testCpuTime() {
+    TestResult result = TestReporter.run(TestSuite.create("my_suite").test("my_test", context -> {
+      long now = System.nanoTime();
+      long count = 0;
+      while (System.nanoTime() - now < 100_000_000L) {
+        count++;
+      }
+      sink = count;
+    }));
+    assertTrue(result.succeeded());
+    assertTrue("Unexpected CPU time " + result.cpuTime(), result.cpuTime() >= 50_000_000L);
+    assertTrue("Unexpected idle ratio " + result.idleRatio(), result.idleRatio() >= 0 && result.idleRatio() < 0.5);
+  }
+
+  @Test
+  public void testIdleRatio() {
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async();
+      vertx.setTimer(200, id -> async.complete());
+    });
+    ((TestSuiteImpl) suite).runner().setVertx(vertx).setReporter(reporter).run();
+    reporter.await();
+    TestResult result = reporter.results.get(0);
+    assertTrue(result.succeeded());
+    assertTrue(result.cpuTime() >= 0);
+    assertTrue("Unexpected idle ratio " + result.idleRatio(), result.idleRatio() > 0.5);
+  }
+
+  @Test
+  public void testReportMostIdleTests() {
+    StringBuilder output = new StringBuilder();
+    SimpleFormatter formatter = new SimpleFormatter(name -> new ReportStream() {
+      @Override
+      public void info(Buffer msg) {
+        output.append(msg.toString());
+      }
+    });
+    SimpleFormatter.ReportImpl report = formatter.reportBeginTestSuite("my_suite");
+    formatter.reportEndTestCase(report, "busy_test", new TestResultImpl("busy_test", 0, 1000, (Throwable) null).
+        setCpuTime(900_000_000L).setIdleRatio(0.1));
+    formatter.reportEndTestCase(report, "sleeping_test", new TestResultImpl("sleeping_test", 0, 1000, (Throwable) null).
+        setCpuTime(100_000_000L).setIdleRatio(0.9));
+    formatter.reportEndTestCase(report, "fast_test", new TestResultImpl("fast_test", 0, 10, (Throwable) null).
+        setCpuTime(0).setIdleRatio(1));
+    formatter.reportEndTestSuite(report);
+    String s = output.toString();
+    int pos = s.indexOf("Most idle tests of my_suite");
+    assertTrue(s, pos >= 0);
+    String idle = s.substring(pos);
+    assertTrue(idle, idle.indexOf("sleeping_test idle 900 ms") < idle.indexOf("busy_test idle 100 ms"));
+    assertFalse(idle, idle.contains("fast_test"));
+  }
+
+  @Test
+  public void testGcAttribution() {
+    TestResult result = TestReporter.run(TestSuite.create("my_suite").test("my_test", context -> {
+      allocate(8);
+      System.gc();
+      try {
+        // GC notifications are delivered asynchronously
+        Thread.sleep(200);
+      } catch (InterruptedException e) {
+        context.fail(e);
+      }
+    }));
+    assertTrue(result.succeeded());
+    assertTrue("Unexpected GC count " + result.gcCount(), result.gcCount() >= 1);
+    assertTrue(result.gcTime() >= 0);
+  }
+
+  @Test
+  public void testReportGcSummary() {
+    StringBuilder output = new StringBuilder();
+    SimpleFormatter formatter = new SimpleFormatter(name -> new ReportStream() {
+      @Override
+      public void info(Buffer msg) {
+        output.append(msg.toString());
+      }
+    });
+    SimpleFormatter.ReportImpl report = formatter.reportBeginTestSuite("my_suite");
+    formatter.reportEndTestCase(report, "test_1", new TestResultImpl("test_1", 0, 10, (Throwable) null).setGcCount(1).setGcTime(0));
+    formatter.reportEndTestCase(report, "test_2", new TestResultImpl("test_2", 0, 10, (Throwable) null).setGcCount(2).setGcTime(0));
+    formatter.reportEndTestSuite(report);
+    assertTrue(output.toString(), output.toString().contains("GC pauses of my_suite: 3, GC time: 0 ms (0.0% of "));
+  }
+
+  @Test
+  public void testNoGcSummaryWithoutPauses() {
+    StringBuilder output = new StringBuilder();
+    SimpleFormatter formatter = new SimpleFormatter(name -> new ReportStream() {
+      @Override
+      public void info(Buffer msg) {
+        output.append(msg.toString());
+      }
+    });
+    SimpleFormatter.ReportImpl report = formatter.reportBeginTestSuite("my_suite");
+    formatter.reportEndTestCase(report, "test_1", new TestResultImpl("test_1", 0, 10, (Throwable) null).setGcCount(0).setGcTime(0));
+    formatter.reportEndTestSuite(report);
+    assertFalse(output.toString(), output.toString().contains("GC pauses"));
+  }
+}
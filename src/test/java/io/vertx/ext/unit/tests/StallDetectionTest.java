@@ -0,0 +1,50 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestOptions;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.TimeoutException;
+
+public class StallDetectionTest extends VertxTestBase {
+
+  @Test
+  public void testStalled() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> context.async()),
+        new TestOptions().setStallTimeout(100), 60000);
+    assertTrue(result.failed());
+    assertTrue(result.durationTime() < 10000);
+    Throwable cause = result.failure().cause();
+    assertTrue(cause instanceof TimeoutException);
+    assertEquals("Stalled without progress for 100 ms with 1 pending async(s)", cause.getMessage());
+    assertTrue(cause.getSuppressed().length >= 1);
+  }
+
+  @Test
+  public void testProgress() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async(20);
+      long id = vertx.setPeriodic(20, v -> {
+        async.countDown();
+      });
+      async.handler(ar -> vertx.cancelTimer(id));
+    }), new TestOptions().setStallTimeout(100), 60000);
+    assertTrue(result.succeeded());
+  }
+
+  @Test
+  public void testNoStallTimeout() {
+    TestReporter reporter = new TestReporter();
+    TestSuite suite = TestSuite.create("my_suite").test("my_test", context -> {
+      Async async = context.async();
+      vertx.setTimer(300, id -> async.complete());
+    });
+    ((TestSuiteImpl) suite).runner().setVertx(vertx).setReporter(reporter).run();
+    reporter.await();
+    assertTrue(reporter.results.get(0).succeeded());
+  }
+}
@@ -1,6 +1,10 @@
 package io.vertx.ext.unit.tests;
 
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestOptions;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
 import io.vertx.ext.unit.report.TestResult;
 import io.vertx.ext.unit.report.TestSuiteReport;
 
@@ -11,11 +15,47 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.Assert.assertEquals;
+
 /**
 * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
 */
 class TestReporter implements Handler<TestSuiteReport> {
 
+  /**
+   * Run a test suite with a single test case.
+   *
+   * @return the test case result
+   */
+  static TestResult run(TestSuite suite) {
+    return run(null, suite, new TestOptions());
+  }
+
+  /**
+   * Run a test suite with a single test case.
+   *
+   * @param vertx the vertx instance or {@code null}
+   * @return the test case result
+   */
+  static TestResult run(Vertx vertx, TestSuite suite, TestOptions options) {
+    return run(vertx, suite, options, 0);
+  }
+
+  /**
+   * Run a test suite with a single test case.
+   *
+   * @param vertx the vertx instance or {@code null}
+   * @param timeout the test timeout or {@code 0}
+   * @return the test case result
+   */
+  static TestResult run(Vertx vertx, TestSuite suite, TestOptions options, long timeout) {
+    TestReporter reporter = new TestReporter();
+    ((TestSuiteImpl) suite).runner().setVertx(vertx).setTimeout(timeout).setOptions(options).setReporter(reporter).run();
+    reporter.await();
+    assertEquals(1, reporter.results.size());
+    return reporter.results.get(0);
+  }
+
   private final CountDownLatch latch = new CountDownLatch(1);
   final AtomicReference<String> name = new AtomicReference<>();
   final List<Throwable> exceptions = Collections.synchronizedList(new ArrayList<>());
@@ -0,0 +1,61 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestCompletion;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.report.TestRunMXBean;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TestRunMXBeanTest extends VertxTestBase {
+
+  private static TestRunMXBean mbean() throws Exception {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(TestRunMXBean.OBJECT_NAME);
+    return server.isRegistered(name) ? JMX.newMXBeanProxy(server, name, TestRunMXBean.class) : null;
+  }
+
+  @Test
+  public void testMetrics() throws Exception {
+    TestRunMXBean before = mbean();
+    long started = before != null ? before.getTestsStarted() : 0;
+    long passed = before != null ? before.getTestsPassed() : 0;
+    long failed = before != null ? before.getTestsFailed() : 0;
+    AtomicReference<Map<String, Long>> running = new AtomicReference<>();
+    AtomicLong outstandingAsyncs = new AtomicLong();
+    TestSuite suite = TestSuite.create("my_suite").
+        test("my_test", context -> {
+          Async async = context.async();
+          vertx.setTimer(50, id -> {
+            try {
+              TestRunMXBean mbean = mbean();
+              running.set(mbean.getRunningTests());
+              outstandingAsyncs.set(mbean.getOutstandingAsyncs());
+            } catch (Exception e) {
+              context.fail(e);
+            }
+            async.complete();
+          });
+        }).
+        test("my_failing_test", context -> context.fail());
+    TestCompletion completion = suite.run(vertx);
+    completion.await(10000);
+    assertTrue(running.get().containsKey("my_suite/my_test"));
+    assertTrue(running.get().get("my_suite/my_test") >= 50);
+    assertTrue(outstandingAsyncs.get() >= 1);
+    TestRunMXBean mbean = mbean();
+    assertEquals(started + 2, mbean.getTestsStarted());
+    assertEquals(passed + 1, mbean.getTestsPassed());
+    assertEquals(failed + 1, mbean.getTestsFailed());
+    assertFalse(mbean.getRunningTests().containsKey("my_suite/my_test"));
+    assertTrue(mbean.getDurationMax() >= 50);
+  }
+}
@@ -0,0 +1,172 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.TestOptions;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
+import io.vertx.ext.unit.junit.DetectThreadLeaks;
+import io.vertx.ext.unit.junit.RunTestOnContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ThreadLeakTest extends VertxTestBase {
+
+  private static volatile CountDownLatch release;
+
+  private static Thread startThread(String name) {
+    CountDownLatch latch = release;
+    Thread thread = new Thread(() -> {
+      try {
+        latch.await();
+      } catch (InterruptedException ignore) {
+      }
+    }, name);
+    thread.start();
+    return thread;
+  }
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    release = new CountDownLatch(1);
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    release.countDown();
+    super.tearDown();
+  }
+
+  private TestReporter run(TestSuite suite, TestOptions options) {
+    TestReporter reporter = new TestReporter();
+    ((TestSuiteImpl) suite).runner().setVertx(vertx).setOptions(options).setReporter(reporter).run();
+    reporter.await();
+    return reporter;
+  }
+
+  @Test
+  public void testReportThreadLeak() {
+    TestReporter reporter = run(TestSuite.create("my_suite").test("my_test", context -> startThread("leaked-thread")),
+        new TestOptions().setDetectThreadLeaks(true).setThreadLeakGracePeriod(100));
+    TestResult result = reporter.results.get(0);
+    assertTrue(result.succeeded());
+    assertEquals(1, result.diagnostics().size());
+    String diagnostic = result.diagnostics().get(0);
+    assertTrue(diagnostic, diagnostic.startsWith("Thread leaked-thread of group "));
+    assertTrue(diagnostic, diagnostic.contains("has been leaked"));
+  }
+
+  @Test
+  public void testFailOnThreadLeak() {
+    TestReporter reporter = run(TestSuite.create("my_suite").test("my_test", context -> startThread("leaked-thread")),
+        new TestOptions().setDetectThreadLeaks(true).setFailOnThreadLeak(true).setThreadLeakGracePeriod(100));
+    TestResult result = reporter.results.get(0);
+    assertTrue(result.failed());
+    assertTrue(result.failure().message().contains("leaked-thread"));
+  }
+
+  @Test
+  public void testThreadTerminatedDuringGracePeriod() {
+    TestReporter reporter = run(TestSuite.create("my_suite").test("my_test", context -> {
+      startThread("terminating-thread");
+      new Thread(() -> {
+        try {
+          Thread.sleep(50);
+        } catch (InterruptedException ignore) {
+        }
+        release.countDown();
+      }).start();
+    }), new TestOptions().setDetectThreadLeaks(true).setFailOnThreadLeak(true).setThreadLeakGracePeriod(2000));
+    assertTrue(reporter.results.get(0).succeeded());
+  }
+
+  @Test
+  public void testGracePeriodDoesNotBlockEventLoop() {
+    AtomicLong elapsed = new AtomicLong(-1);
+    TestReporter reporter = run(TestSuite.create("my_suite").test("my_test", context -> {
+      long now = System.nanoTime();
+      startThread("leaked-thread");
+      vertx.setTimer(10, id -> elapsed.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - now)));
+    }), new TestOptions().setDetectThreadLeaks(true).setThreadLeakGracePeriod(1000));
+    assertEquals(1, reporter.results.get(0).diagnostics().size());
+    assertTrue(elapsed.get() >= 0);
+    assertTrue("Timer fired after " + elapsed.get() + " ms", elapsed.get() < 500);
+  }
+
+  @Test
+  public void testDaemonThreadIsNotLeaked() {
+    TestReporter reporter = run(TestSuite.create("my_suite").test("my_test", context -> {
+      CountDownLatch latch = release;
+      Thread thread = new Thread(() -> {
+        try {
+          latch.await();
+        } catch (InterruptedException ignore) {
+        }
+      }, "daemon-thread");
+      thread.setDaemon(true);
+      thread.start();
+    }), new TestOptions().setDetectThreadLeaks(true).setFailOnThreadLeak(true).setThreadLeakGracePeriod(100));
+    assertTrue(reporter.results.get(0).succeeded());
+  }
+
+  @Test
+  public void testSuiteThreadLeak() {
+    TestReporter reporter = run(TestSuite.create("my_suite").
+        before(context -> startThread("leaked-thread")).
+        test("my_test", context -> {}),
+        new TestOptions().setDetectThreadLeaks(true).setFailOnThreadLeak(true).setThreadLeakGracePeriod(100));
+    assertTrue(reporter.results.get(0).succeeded());
+    assertEquals(1, reporter.exceptions.size());
+    assertTrue(reporter.exceptions.get(0) instanceof AssertionError);
+    assertTrue(reporter.exceptions.get(0).getMessage().contains("leaked-thread"));
+  }
+
+  public static class LeakingTestSuite {
+    @DetectThreadLeaks(fail = true, gracePeriod = 100)
+    @Test
+    public void leakingMethod() {
+      startThread("leaked-thread");
+    }
+    @DetectThreadLeaks(fail = true, gracePeriod = 100)
+    @Test
+    public void method() {
+    }
+  }
+
+  @Test
+  public void testJUnitThreadLeak() throws Exception {
+    Result result = new JUnitCore().run(new VertxUnitRunner(LeakingTestSuite.class));
+    assertEquals(2, result.getRunCount());
+    assertEquals(1, result.getFailureCount());
+    assertEquals("leakingMethod", result.getFailures().get(0).getDescription().getMethodName());
+  }
+
+  @DetectThreadLeaks(fail = true, gracePeriod = 5000)
+  public static class RunTestOnContextTestSuite {
+    @Rule
+    public final RunTestOnContext rule = new RunTestOnContext();
+    @Test
+    public void method(TestContext context) {
+      // The event loop thread is stopped when the rule closes Vert.x
+      Async async = context.async();
+      rule.vertx().setTimer(10, id -> async.complete());
+    }
+  }
+
+  @Test
+  public void testRunTestOnContext() throws Exception {
+    Result result = new JUnitCore().run(new VertxUnitRunner(RunTestOnContextTestSuite.class));
+    assertEquals(1, result.getRunCount());
+    assertEquals(0, result.getFailureCount());
+  }
+}
@@ -0,0 +1,47 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestOptions;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.TimeoutException;
+
+public class TimeoutDiagnosticsTest extends VertxTestBase {
+
+  private static void createPendingAsyncs(io.vertx.ext.unit.TestContext context) {
+    Async async = context.async(3);
+    async.countDown();
+  }
+
+  @Test
+  public void testTimeoutDiagnostics() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", TimeoutDiagnosticsTest::createPendingAsyncs),
+        new TestOptions().setTimeoutDiagnostics(true), 200);
+    assertTrue(result.failed());
+    Throwable cause = result.failure().cause();
+    assertTrue(cause instanceof TimeoutException);
+    assertEquals("Timed out after 200 ms with 1 pending async(s)", cause.getMessage());
+    Throwable[] suppressed = cause.getSuppressed();
+    assertTrue(suppressed.length >= 2);
+    assertEquals("Async created with count 3 is pending with count 2", suppressed[0].getMessage());
+    StackTraceElement site = suppressed[0].getStackTrace()[0];
+    assertEquals(TimeoutDiagnosticsTest.class.getName(), site.getClassName());
+    assertEquals("createPendingAsyncs", site.getMethodName());
+    assertTrue(suppressed[1].getMessage().startsWith("Thread "));
+    assertTrue(result.failure().stackTrace().contains("createPendingAsyncs"));
+  }
+
+  @Test
+  public void testNoTimeoutDiagnostics() {
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", TimeoutDiagnosticsTest::createPendingAsyncs),
+        new TestOptions(), 200);
+    assertTrue(result.failed());
+    Throwable cause = result.failure().cause();
+    assertTrue(cause instanceof TimeoutException);
+    assertNull(cause.getMessage());
+    assertEquals(0, cause.getSuppressed().length);
+  }
+}
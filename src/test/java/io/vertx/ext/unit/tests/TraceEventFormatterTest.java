@@ -0,0 +1,122 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestOptions;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.impl.TestCompletionImpl;
+import io.vertx.ext.unit.impl.TestSuiteImpl;
+import io.vertx.ext.unit.report.impl.ReportStream;
+import io.vertx.ext.unit.report.impl.TraceEventFormatter;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+public class TraceEventFormatterTest extends VertxTestBase {
+
+  private final CountDownLatch latch = new CountDownLatch(1);
+  private final AtomicInteger writes = new AtomicInteger();
+  private final Buffer trace = Buffer.buffer();
+
+  private ReportStream reportTo(String name) {
+    return new ReportStream() {
+      @Override
+      public void info(Buffer msg) {
+        writes.incrementAndGet();
+        trace.appendBuffer(msg);
+      }
+      @Override
+      public void end() {
+        latch.countDown();
+      }
+    };
+  }
+
+  private static List<JsonObject> events(JsonArray trace, String ph) {
+    List<JsonObject> events = new ArrayList<>();
+    for (int i = 0;i < trace.size();i++) {
+      JsonObject event = trace.getJsonObject(i);
+      if (event.getString("ph").equals(ph)) {
+        events.add(event);
+      }
+    }
+    return events;
+  }
+
+  @Test
+  public void testTrace() throws Exception {
+    TestSuiteImpl suite = (TestSuiteImpl) TestSuite.create("my_suite").
+        beforeEach(context -> {}).
+        test("my_test", context -> {
+          Async query = context.async("db-query");
+          vertx.setTimer(20, id -> query.complete());
+        }).
+        test("my_other_test", context -> context.fail("the_failure"));
+    TraceEventFormatter reporter = new TraceEventFormatter(this::reportTo);
+    suite.runner().
+        setVertx(vertx).
+        setOptions(new TestOptions().setTraceAsyncs(true)).
+        setReporter(new TestCompletionImpl(reporter)).
+        run();
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertTrue(writes.get() > 2);
+    JsonArray events = new JsonArray(trace.toString());
+    List<JsonObject> metadata = events(events, "M");
+    assertTrue(metadata.stream().anyMatch(event -> event.getString("name").equals("process_name")));
+    assertTrue(metadata.stream().anyMatch(event -> event.getString("name").equals("thread_name")));
+    List<JsonObject> spans = events(events, "X");
+    List<String> names = spans.stream().map(span -> span.getString("name")).collect(Collectors.toList());
+    assertTrue(names.contains("my_suite"));
+    assertTrue(names.contains("my_test"));
+    assertTrue(names.contains("my_other_test"));
+    assertTrue(names.contains("beforeEach"));
+    for (JsonObject span : spans) {
+      assertTrue(span.getLong("ts") >= 0);
+      assertTrue(span.getLong("dur") >= 0);
+      assertNotNull(span.getLong("tid"));
+    }
+    JsonObject failed = spans.stream().filter(span -> span.getString("name").equals("my_other_test")).findFirst().get();
+    assertFalse(failed.getJsonObject("args").getBoolean("succeeded"));
+    assertEquals("the_failure", failed.getJsonObject("args").getString("failure"));
+    List<JsonObject> begins = events(events, "b");
+    List<JsonObject> ends = events(events, "e");
+    assertEquals(1, begins.size());
+    assertEquals(1, ends.size());
+    assertEquals("db-query", begins.get(0).getString("name"));
+    assertEquals(begins.get(0).getString("id"), ends.get(0).getString("id"));
+    assertTrue(ends.get(0).getLong("ts") - begins.get(0).getLong("ts") >= 20_000);
+  }
+
+  @Test
+  public void testPhaseSpans() throws Exception {
+    TestSuiteImpl suite = (TestSuiteImpl) TestSuite.create("my_suite").
+        beforeEach(context -> LockSupport.parkNanos(2_500_000)).
+        test("my_test", context -> {}).
+        afterEach(context -> {});
+    TraceEventFormatter reporter = new TraceEventFormatter(this::reportTo);
+    suite.runner().setReporter(new TestCompletionImpl(reporter)).run();
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    List<JsonObject> spans = events(new JsonArray(trace.toString()), "X");
+    JsonObject test = spans.stream().filter(span -> span.getString("cat").equals("test")).findFirst().get();
+    List<JsonObject> phases = spans.stream().filter(span -> span.getString("cat").equals("phase")).collect(Collectors.toList());
+    assertEquals(Arrays.asList("beforeEach", "test", "afterEach"), phases.stream().map(span -> span.getString("name")).collect(Collectors.toList()));
+    // The phases are measured in nanos, not truncated to millis
+    assertTrue(phases.get(0).getLong("dur") >= 2499);
+    long begin = test.getLong("ts");
+    for (JsonObject phase : phases) {
+      assertEquals(begin, (long) phase.getLong("ts"));
+      begin += phase.getLong("dur");
+    }
+    assertTrue(begin <= test.getLong("ts") + test.getLong("dur"));
+  }
+}
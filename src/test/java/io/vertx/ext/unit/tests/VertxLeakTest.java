@@ -0,0 +1,64 @@
+package io.vertx.ext.unit.tests;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.ext.unit.TestMetricsFactory;
+import io.vertx.ext.unit.TestOptions;
+import io.vertx.ext.unit.TestSuite;
+import io.vertx.ext.unit.report.TestResult;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class VertxLeakTest extends VertxTestBase {
+
+  @Test
+  public void testCancelLeakedPeriodic() throws Exception {
+    AtomicInteger ticks = new AtomicInteger();
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").test("my_test", context -> {
+      vertx.setPeriodic(10, id -> ticks.incrementAndGet());
+    }), new TestOptions().setDetectVertxLeaks(true));
+    assertTrue(result.succeeded());
+    assertEquals(1, result.diagnostics().size());
+    String diagnostic = result.diagnostics().get(0);
+    assertTrue(diagnostic, diagnostic.startsWith("Timer "));
+    assertTrue(diagnostic, diagnostic.endsWith("has been leaked and cancelled"));
+    int count = ticks.get();
+    Thread.sleep(100);
+    assertEquals(count, ticks.get());
+  }
+
+  @Test
+  public void testTimerCancelledInAfter() {
+    long[] timer = new long[1];
+    TestResult result = TestReporter.run(vertx, TestSuite.create("my_suite").
+        beforeEach(context -> timer[0] = vertx.setPeriodic(10, id -> {})).
+        test("my_test", context -> {}).
+        afterEach(context -> vertx.cancelTimer(timer[0])), new TestOptions().setDetectVertxLeaks(true));
+    assertTrue(result.succeeded());
+    assertEquals(0, result.diagnostics().size());
+  }
+
+  @Test
+  public void testLeakedConsumer() {
+    Vertx metricsVertx = Vertx.builder()
+        .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+        .withMetrics(new TestMetricsFactory())
+        .build();
+    try {
+      metricsVertx.eventBus().consumer("suite-address", msg -> {});
+      TestResult result = TestReporter.run(metricsVertx, TestSuite.create("my_suite").test("my_test", context -> {
+        metricsVertx.eventBus().consumer("leaked-address", msg -> {});
+        metricsVertx.eventBus().consumer("unregistered-address", msg -> {}).unregister();
+      }), new TestOptions().setDetectVertxLeaks(true));
+      assertTrue(result.succeeded());
+      assertEquals(1, result.diagnostics().size());
+      String diagnostic = result.diagnostics().get(0);
+      assertTrue(diagnostic, diagnostic.startsWith("Event bus consumer of address leaked-address has been leaked"));
+    } finally {
+      metricsVertx.close();
+    }
+  }
+}
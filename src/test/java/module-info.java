@@ -1,8 +1,10 @@
 open module io.vertx.testing.unit.tests {
   requires io.vertx.core;
   requires io.vertx.core.tests;
+  requires io.netty.buffer;
   requires io.vertx.testing.unit;
   requires java.logging;
+  requires jdk.jfr;
   requires java.xml;
   requires junit;
 }